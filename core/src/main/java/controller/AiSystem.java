@@ -0,0 +1,200 @@
+package controller;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ai.sched.LoadBalancingScheduler;
+import com.badlogic.gdx.utils.TimeUtils;
+import model.Enemy;
+import model.EnemyComponent;
+import model.Families;
+import model.FlowField;
+import model.Player;
+
+/**
+ * Enemy decision making, run once per tick under a budget by a gdx-ai {@link LoadBalancingScheduler}.
+ * Chasers near the player re-pick their direction every tick, further ones every few ticks; movement itself
+ * still integrates every tick in {@link MovementSystem}. The boss dash check and ranged enemies' shooting
+ * are scheduled here too, at lower frequencies.
+ * <p>
+ * The microsecond budget is turned into a fixed number of decisions per tick. Each task spends from that
+ * count and, when it runs out, saves where it stopped and carries on from there next time, so the work left
+ * over is spread across ticks. The scheduler's own per-task share is measured on the clock and is ignored:
+ * what runs depends only on the tick count, positions and the budget setting, so seeded replays stay exact.
+ * The tick's real cost is still measured against the budget for the stats.
+ */
+public class AiSystem extends EntitySystem {
+    private static final float NEAR_DISTANCE = 600f;
+    private static final float MID_DISTANCE = 1400f;
+    private static final int NEAR_THINK_INTERVAL = 1;
+    private static final int MID_THINK_INTERVAL = 4;
+    private static final int FAR_THINK_INTERVAL = 12;
+
+    private static final int STEERING_FREQUENCY = 1;
+    private static final int SHOOTING_FREQUENCY = 2;
+    private static final int BOSS_FREQUENCY = 6;
+    private static final float BOSS_DASH_COOLDOWN = 5.0f;
+    private static final int SCHEDULER_DRY_RUN_FRAMES = 100;
+    // Rough cost of one decision, used to turn the budget into a decision count; the stats show the real cost.
+    private static final int NANOS_PER_DECISION = 250;
+
+    private final ComponentMapper<EnemyComponent> enemies = ComponentMapper.getFor(EnemyComponent.class);
+    private final LoadBalancingScheduler scheduler = new LoadBalancingScheduler(SCHEDULER_DRY_RUN_FRAMES);
+    private final Player player;
+    private final FlowField flowField;
+    private final ShootingSystem shootingSystem;
+    private ImmutableArray<Entity> movers;
+    private ImmutableArray<Entity> shooters;
+
+    private long budgetNanos;
+    private int decisionsPerTick;
+    private int decisionsLeft;
+    private int steerCursor;
+    private int shootCursor;
+    private boolean carriedOver;
+    private int tick;
+    private float bossDashTimer;
+    private int staggerCounter;
+
+    private int thinksLastTick;
+    private long totalThinks;
+    private long lastRunNanos;
+    private long peakRunNanos;
+    private long totalRunNanos;
+    private int overBudgetTicks;
+    private int slicedTicks;
+
+    public AiSystem(int priority, Player player, FlowField flowField, ShootingSystem shootingSystem, int budgetMicros) {
+        super(priority);
+        this.player = player;
+        this.flowField = flowField;
+        this.shootingSystem = shootingSystem;
+        setBudgetMicros(budgetMicros);
+        // Tasks run in the order added; steering goes last so the cheap periodic ones are never starved by it.
+        scheduler.addWithAutomaticPhasing(this::checkBossDash, BOSS_FREQUENCY);
+        scheduler.addWithAutomaticPhasing(this::shoot, SHOOTING_FREQUENCY);
+        scheduler.addWithAutomaticPhasing(this::steer, STEERING_FREQUENCY);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        movers = engine.getEntitiesFor(Families.MOVERS);
+        shooters = engine.getEntitiesFor(Families.SHOOTERS);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        tick++;
+        bossDashTimer += deltaTime;
+        thinksLastTick = 0;
+        decisionsLeft = decisionsPerTick;
+        carriedOver = false;
+
+        long start = TimeUtils.nanoTime();
+        scheduler.run(budgetNanos);
+        lastRunNanos = TimeUtils.nanoTime() - start;
+        if (carriedOver) slicedTicks++;
+
+        totalRunNanos += lastRunNanos;
+        if (lastRunNanos > peakRunNanos) peakRunNanos = lastRunNanos;
+        if (lastRunNanos > budgetNanos) overBudgetTicks++;
+        totalThinks += thinksLastTick;
+    }
+
+    // Enemies skipped for lack of budget keep their overdue think tick, so they are first in line next tick.
+    private void steer(long nanoTimeToRun) {
+        float targetX = player.getX();
+        float targetY = player.getY();
+        int count = movers.size();
+        if (steerCursor >= count) steerCursor = 0;
+        for (int visited = 0; visited < count; visited++) {
+            int i = (steerCursor + visited) % count;
+            Enemy enemy = enemies.get(movers.get(i)).enemy;
+            if (!enemy.getArchetype().isMover() || enemy.isDying()) continue;
+            boolean firstDecision = !enemy.hasDecided();
+            if (!firstDecision && tick < enemy.getNextThinkTick()) continue;
+            if (decisionsLeft == 0) {
+                steerCursor = i;
+                carriedOver = true;
+                return;
+            }
+
+            enemy.think(targetX, targetY, flowField);
+            decisionsLeft--;
+            thinksLastTick++;
+            int interval = thinkInterval(enemy.getX() - targetX, enemy.getY() - targetY);
+            // Whole waves spawn on one tick; spread their first re-think so they don't all land together.
+            int stagger = firstDecision && interval > 1 ? staggerCounter++ % interval : 0;
+            enemy.setNextThinkTick(tick + interval + stagger);
+        }
+    }
+
+    private static int thinkInterval(float dx, float dy) {
+        float distance2 = dx * dx + dy * dy;
+        if (distance2 <= NEAR_DISTANCE * NEAR_DISTANCE) return NEAR_THINK_INTERVAL;
+        if (distance2 <= MID_DISTANCE * MID_DISTANCE) return MID_THINK_INTERVAL;
+        return FAR_THINK_INTERVAL;
+    }
+
+    // The engine skips ShootingSystem; its shot timers still advance every tick in Enemy.update(), so a shooter
+    // left for the next run just fires a little later.
+    private void shoot(long nanoTimeToRun) {
+        int count = shooters.size();
+        if (shootCursor >= count) shootCursor = 0;
+        for (int visited = 0; visited < count; visited++) {
+            int i = (shootCursor + visited) % count;
+            if (decisionsLeft == 0) {
+                shootCursor = i;
+                carriedOver = true;
+                return;
+            }
+            shootingSystem.fireIfReady(shooters.get(i));
+            decisionsLeft--;
+        }
+    }
+
+    private void checkBossDash(long nanoTimeToRun) {
+        if (decisionsLeft == 0) {
+            carriedOver = true;
+            return;
+        }
+        decisionsLeft--;
+        Enemy boss = null;
+        for (int i = 0; i < movers.size() && boss == null; i++) {
+            Enemy enemy = enemies.get(movers.get(i)).enemy;
+            if (enemy.getArchetype().isBoss() && enemy.isAlive() && !enemy.isDying()) boss = enemy;
+        }
+        if (boss == null) {
+            bossDashTimer = 0f;
+            return;
+        }
+        if (bossDashTimer < BOSS_DASH_COOLDOWN) return;
+        if (!boss.isDashing()) boss.startDash(player.getX(), player.getY());
+        bossDashTimer = 0f;
+    }
+
+    public void setBudgetMicros(int budgetMicros) {
+        this.budgetNanos = Math.max(1, budgetMicros) * 1000L;
+        this.decisionsPerTick = (int) Math.max(1, budgetNanos / NANOS_PER_DECISION);
+    }
+
+    public void logStats() {
+        long averageNanos = tick > 0 ? totalRunNanos / tick : 0;
+        Gdx.app.log("AiSystem", "AI: budget=" + budgetNanos / 1000 + "us, avg=" + averageNanos / 1000 + "us, peak=" + peakRunNanos / 1000
+            + "us, over budget on " + overBudgetTicks + "/" + tick + " ticks, decisions/tick=" + decisionsPerTick
+            + ", sliced on " + slicedTicks + " ticks, thinks/tick=" + (tick > 0 ? totalThinks / tick : 0));
+    }
+
+    public int getBudgetMicros() { return (int) (budgetNanos / 1000); }
+    public int getThinksLastTick() { return thinksLastTick; }
+    public long getLastRunNanos() { return lastRunNanos; }
+    public long getPeakRunNanos() { return peakRunNanos; }
+    public int getOverBudgetTicks() { return overBudgetTicks; }
+    public int getDecisionsPerTick() { return decisionsPerTick; }
+    /** Ticks on which the decision budget ran out and some work was carried over to the next tick. */
+    public int getSlicedTicks() { return slicedTicks; }
+    public int getTickCount() { return tick; }
+}
@@ -0,0 +1,114 @@
+package controller;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import model.BulletStore;
+import model.Enemy;
+import model.Seed;
+import model.SpatialHashGrid;
+
+/**
+ * Per-tick collision index shared by every overlap check in a run.
+ * Enemies, enemy bullets and dropped seeds go into one {@link SpatialHashGrid}; each entry id carries its
+ * layer in the high bits and its index in the owning list in the low bits.
+ */
+public class CollisionService {
+    public static final int LAYER_ENEMY = 0;
+    public static final int LAYER_ENEMY_BULLET = 1;
+    public static final int LAYER_SEED = 2;
+
+    private static final int LAYER_SHIFT = 28;
+    private static final int INDEX_MASK = (1 << LAYER_SHIFT) - 1;
+
+    private final SpatialHashGrid grid;
+    private final IntArray candidates = new IntArray(false, 64);
+    private boolean valid = false;
+
+    public CollisionService(float cellSize) {
+        this.grid = new SpatialHashGrid(cellSize);
+    }
+
+    /** Sizes the index for up to {@code entries} enemies, bullets and seeds. */
+    public void prewarm(int entries) {
+        grid.prewarm(entries);
+        candidates.ensureCapacity(entries);
+    }
+
+    public void rebuild(Array<Enemy> enemies, BulletStore enemyBullets, Array<Seed> seeds) {
+        grid.clear();
+        valid = true;
+        for (int i = 0; i < enemies.size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive() || enemy.isDying()) continue;
+            Rectangle bounds = enemy.getBounds();
+            grid.insert(encode(LAYER_ENEMY, i), bounds.x, bounds.y, bounds.width, bounds.height);
+        }
+        for (int i = 0, n = enemyBullets.size(); i < n; i++) {
+            grid.insert(encode(LAYER_ENEMY_BULLET, i), enemyBullets.getX(i), enemyBullets.getY(i), enemyBullets.getWidth(), enemyBullets.getHeight());
+        }
+        for (int i = 0; i < seeds.size; i++) {
+            Seed seed = seeds.get(i);
+            grid.insert(encode(LAYER_SEED, i), seed.getX(), seed.getY(), Seed.DRAW_SIZE, Seed.DRAW_SIZE);
+        }
+    }
+
+    /**
+     * One neighborhood query around {@code area}, split per layer. Each output is cleared first and
+     * returned in ascending index order, so callers can walk it backwards and remove by index safely.
+     */
+    public void queryNeighborhood(Rectangle area, IntArray enemiesOut, IntArray enemyBulletsOut, IntArray seedsOut) {
+        enemiesOut.clear();
+        enemyBulletsOut.clear();
+        seedsOut.clear();
+        candidates.clear();
+        grid.query(area.x, area.y, area.width, area.height, candidates);
+        for (int i = 0; i < candidates.size; i++) {
+            int id = candidates.get(i);
+            switch (layerOf(id)) {
+                case LAYER_ENEMY: enemiesOut.add(indexOf(id)); break;
+                case LAYER_ENEMY_BULLET: enemyBulletsOut.add(indexOf(id)); break;
+                case LAYER_SEED: seedsOut.add(indexOf(id)); break;
+                default: break;
+            }
+        }
+        sortAscending(enemiesOut);
+        sortAscending(enemyBulletsOut);
+        sortAscending(seedsOut);
+    }
+
+    // Insertion sort: neighbourhood lists are short, and unlike IntArray.sort() this never allocates.
+    private static void sortAscending(IntArray ids) {
+        int[] items = ids.items;
+        for (int i = 1; i < ids.size; i++) {
+            int id = items[i];
+            int j = i - 1;
+            while (j >= 0 && items[j] > id) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = id;
+        }
+    }
+
+    /** Enemy indices that may overlap the given rectangle, in no particular order. {@code out} is cleared first. */
+    public void queryEnemies(float x, float y, float width, float height, IntArray out) {
+        out.clear();
+        candidates.clear();
+        grid.query(x, y, width, height, candidates);
+        for (int i = 0; i < candidates.size; i++) {
+            int id = candidates.get(i);
+            if (layerOf(id) == LAYER_ENEMY) out.add(indexOf(id));
+        }
+    }
+
+    /** Marks the index stale; call once per tick before anything moves. */
+    public void invalidate() { valid = false; }
+    public boolean isValid() { return valid; }
+    public int getIndexedCount() { return grid.size(); }
+    public int getOccupiedCellCount() { return grid.getOccupiedCellCount(); }
+
+    private static int encode(int layer, int index) { return (layer << LAYER_SHIFT) | (index & INDEX_MASK); }
+    private static int layerOf(int id) { return id >>> LAYER_SHIFT; }
+    private static int indexOf(int id) { return id & INDEX_MASK; }
+}
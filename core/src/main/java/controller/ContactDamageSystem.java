@@ -0,0 +1,99 @@
+package controller;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import model.BulletStore;
+import model.CollidableComponent;
+import model.Enemy;
+import model.Player;
+import model.Seed;
+
+/**
+ * Rebuilds the shared collision index, then resolves contact damage, enemy bullet hits and
+ * seed pickups from a single neighborhood query around the player.
+ */
+public class ContactDamageSystem extends EntitySystem {
+    private final ComponentMapper<CollidableComponent> collidables = ComponentMapper.getFor(CollidableComponent.class);
+    private final CollisionService collisionService;
+    private final Player player;
+    private final Array<Enemy> activeEnemies;
+    private final Array<Entity> enemyEntities;
+    private final BulletStore enemyBullets;
+    private final Array<Seed> droppedSeeds;
+    private final Array<Entity> seedEntities;
+
+    private final IntArray nearbyEnemies = new IntArray(false, 16);
+    private final IntArray nearbyEnemyBullets = new IntArray(false, 16);
+    private final IntArray nearbySeeds = new IntArray(false, 16);
+    private final Rectangle playerBoundsScratch = new Rectangle();
+    private final Rectangle overlapScratch = new Rectangle();
+    private float stateTimeForPlayerBounds = 0f;
+
+    public ContactDamageSystem(int priority, CollisionService collisionService, Player player,
+                               Array<Enemy> activeEnemies, Array<Entity> enemyEntities, BulletStore enemyBullets,
+                               Array<Seed> droppedSeeds, Array<Entity> seedEntities) {
+        super(priority);
+        this.collisionService = collisionService;
+        this.player = player;
+        this.activeEnemies = activeEnemies;
+        this.enemyEntities = enemyEntities;
+        this.enemyBullets = enemyBullets;
+        this.droppedSeeds = droppedSeeds;
+        this.seedEntities = seedEntities;
+    }
+
+    /** Sizes the neighborhood lists for up to {@code enemies} enemies and seeds and {@code bullets} enemy bullets. */
+    public void prewarm(int enemies, int bullets) {
+        nearbyEnemies.ensureCapacity(enemies);
+        nearbySeeds.ensureCapacity(enemies);
+        nearbyEnemyBullets.ensureCapacity(bullets);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        stateTimeForPlayerBounds += deltaTime;
+        collisionService.rebuild(activeEnemies, enemyBullets, droppedSeeds);
+        if (player.isAlive()) resolvePlayerCollisions(deltaTime);
+    }
+
+    // Seed entities are only removed once this system finishes, so seed indices stay valid for the whole pass.
+    private void resolvePlayerCollisions(float delta) {
+        Rectangle playerBounds = player.getBounds(stateTimeForPlayerBounds, playerBoundsScratch);
+        collisionService.queryNeighborhood(playerBounds, nearbyEnemies, nearbyEnemyBullets, nearbySeeds);
+
+        for (int k = nearbyEnemies.size - 1; k >= 0; k--) {
+            int i = nearbyEnemies.get(k);
+            if (!collidables.has(enemyEntities.get(i))) continue;
+            Enemy enemy = activeEnemies.get(i);
+            if (!enemy.isDying() && enemy.getEnemyData() != null && enemy.getEnemyData().getDamage() > 0 &&
+                enemy.getBounds().overlaps(playerBounds)) {
+                if (enemy.canAttack(delta)) {
+                    player.takeDamage(enemy.getEnemyData().getDamage());
+                }
+            }
+        }
+
+        for (int k = nearbyEnemyBullets.size - 1; k >= 0; k--) {
+            int i = nearbyEnemyBullets.get(k);
+            enemyBullets.getBounds(i, overlapScratch);
+            if (player.isAlive() && !player.isTakingDamage() && overlapScratch.overlaps(playerBounds)) {
+                player.takeDamage(enemyBullets.getDamage(i));
+                enemyBullets.removeIndex(i);
+            }
+        }
+
+        for (int k = nearbySeeds.size - 1; k >= 0; k--) {
+            int i = nearbySeeds.get(k);
+            Seed seed = droppedSeeds.get(i);
+            overlapScratch.set(seed.getX(), seed.getY(), Seed.DRAW_SIZE, Seed.DRAW_SIZE);
+            if (overlapScratch.overlaps(playerBounds)) {
+                player.addXp(seed.getXpValue());
+                getEngine().removeEntity(seedEntities.get(i));
+            }
+        }
+    }
+}
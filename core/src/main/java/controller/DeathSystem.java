@@ -0,0 +1,58 @@
+package controller;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import model.CountingPool;
+import model.Enemy;
+import model.EnemyArchetype;
+import model.EnemyComponent;
+import model.Families;
+import model.PickupComponent;
+import model.RenderableComponent;
+import model.Seed;
+
+/** Removes enemies whose death animation has finished and drops a seed entity in their place. */
+public class DeathSystem extends IteratingSystem {
+    private final ComponentMapper<EnemyComponent> enemies = ComponentMapper.getFor(EnemyComponent.class);
+    private final CountingPool<Seed> seedPool;
+    private final TextureRegion seedTextureRegion;
+    private int enemiesKilled = 0;
+
+    public DeathSystem(int priority, CountingPool<Seed> seedPool, TextureRegion seedTextureRegion) {
+        super(Families.ENEMIES, priority);
+        this.seedPool = seedPool;
+        this.seedTextureRegion = seedTextureRegion;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Enemy enemy = enemies.get(entity).enemy;
+        if (!enemy.isDying() || !enemy.isDeathAnimationFinished()) return;
+
+        // Dying enemies report empty bounds, so the sprite's centre comes from the archetype's draw size.
+        if (seedTextureRegion != null) {
+            EnemyArchetype archetype = enemy.getArchetype();
+            dropSeed(seedPool.obtain().init(enemy.getX() + archetype.getDrawWidth() / 2f,
+                enemy.getY() + archetype.getDrawHeight() / 2f, seedTextureRegion, archetype.getSeedXpValue()));
+        }
+        getEngine().removeEntity(entity);
+        enemiesKilled++;
+    }
+
+    private void dropSeed(Seed seed) {
+        PooledEngine engine = (PooledEngine) getEngine();
+        Entity seedEntity = engine.createEntity();
+        PickupComponent pickup = engine.createComponent(PickupComponent.class);
+        pickup.seed = seed;
+        seedEntity.add(pickup);
+        RenderableComponent renderable = engine.createComponent(RenderableComponent.class);
+        renderable.layer = RenderableComponent.LAYER_PICKUP;
+        seedEntity.add(renderable);
+        engine.addEntity(seedEntity);
+    }
+
+    public int getEnemiesKilled() { return enemiesKilled; }
+}
@@ -0,0 +1,91 @@
+package controller;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import model.BulletStore;
+import model.Enemy;
+import model.EnemyComponent;
+import model.Families;
+import model.PickupComponent;
+import model.RenderQueue;
+import model.RenderableComponent;
+import model.Seed;
+
+/**
+ * Submits enemies, enemy bullets and seeds to a {@link RenderQueue}, skipping anything outside the given
+ * world-space view. Enemies are culled by that view alone, not by their level of detail: {@link MovementSystem}
+ * picks tiers from the last step's viewport, which can lag the camera. The queue orders everything by layer,
+ * so one pass over the entities is enough. Rendering happens
+ * in the caller's frame, so this system is skipped by {@code Engine.update} and driven through
+ * {@link #draw(RenderQueue, float, Rectangle)}.
+ */
+public class DrawSystem extends EntitySystem {
+    private final ComponentMapper<RenderableComponent> renderables = ComponentMapper.getFor(RenderableComponent.class);
+    private final ComponentMapper<EnemyComponent> enemies = ComponentMapper.getFor(EnemyComponent.class);
+    private final ComponentMapper<PickupComponent> pickups = ComponentMapper.getFor(PickupComponent.class);
+    private final BulletStore enemyBullets;
+    private final TextureRegion enemyBulletTextureRegion;
+    private ImmutableArray<Entity> entities;
+    private int drawnEnemies, culledEnemies, drawnBullets, culledBullets, drawnSeeds, culledSeeds;
+
+    public DrawSystem(int priority, BulletStore enemyBullets, TextureRegion enemyBulletTextureRegion) {
+        super(priority);
+        this.enemyBullets = enemyBullets;
+        this.enemyBulletTextureRegion = enemyBulletTextureRegion;
+        setProcessing(false);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(Families.RENDERABLES);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        entities = null;
+    }
+
+    /** {@code view} is the visible world area plus a margin; null draws everything. */
+    public void draw(RenderQueue queue, float alpha, Rectangle view) {
+        drawnEnemies = culledEnemies = drawnBullets = culledBullets = drawnSeeds = culledSeeds = 0;
+        if (entities == null) return;
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            int layer = renderables.get(entity).layer;
+            EnemyComponent enemy = enemies.get(entity);
+            if (enemy != null) {
+                Enemy e = enemy.enemy;
+                if (view == null || overlaps(view, e.getX(), e.getY(), e.getArchetype().getDrawWidth(), e.getArchetype().getDrawHeight())) {
+                    e.draw(queue, layer, alpha);
+                    drawnEnemies++;
+                } else culledEnemies++;
+            }
+            PickupComponent pickup = pickups.get(entity);
+            if (pickup != null) {
+                Seed seed = pickup.seed;
+                if (view == null || overlaps(view, seed.getX(), seed.getY(), Seed.DRAW_SIZE, Seed.DRAW_SIZE)) {
+                    seed.draw(queue, layer);
+                    drawnSeeds++;
+                } else culledSeeds++;
+            }
+        }
+        drawnBullets = enemyBullets.draw(queue, RenderQueue.LAYER_ENEMY_BULLETS, enemyBulletTextureRegion, alpha, view);
+        culledBullets = enemyBullets.size() - drawnBullets;
+    }
+
+    private static boolean overlaps(Rectangle view, float x, float y, float width, float height) {
+        return x < view.x + view.width && x + width > view.x && y < view.y + view.height && y + height > view.y;
+    }
+
+    public int getDrawnEnemies() { return drawnEnemies; }
+    public int getCulledEnemies() { return culledEnemies; }
+    public int getDrawnBullets() { return drawnBullets; }
+    public int getCulledBullets() { return culledBullets; }
+    public int getDrawnSeeds() { return drawnSeeds; }
+    public int getCulledSeeds() { return culledSeeds; }
+}
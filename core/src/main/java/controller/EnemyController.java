@@ -1,86 +1,133 @@
 package controller;
 
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
 import model.Enemy;
 import model.EnemyData;
 import model.GameAssetManager;
+import model.GameSettings;
 import model.Player;
-import model.Bullet;
+import model.BulletStore;
+import model.CollidableComponent;
+import model.CountingPool;
+import model.EnemyArchetype;
+import model.EnemyArchetypeRegistry;
+import model.EnemyComponent;
+import model.Families;
+import model.FlowField;
+import model.MoverComponent;
+import model.ObstacleComponent;
+import model.PickupComponent;
+import model.RenderQueue;
+import model.RenderableComponent;
 import model.Seed;
+import model.ShooterComponent;
+import model.SpawnQueue;
 
-<<<<<<< HEAD
 public class EnemyController {
     private Array<Enemy> activeEnemies;
     private GameAssetManager assetManager;
     private Player player;
 
-    private float generalSpawnTimer;
-    private float generalSpawnInterval = 3.0f;
-
-    private float tentacleMonsterSpawnTimer;
-    private float tentacleMonsterSpawnInterval = 3.0f;
-    private final String TENTACLE_MONSTER_NAME = "TentacleMonster";
-
-    private float eyeBatSpawnTimer;
-    private float eyeBatSpawnInterval = 10.0f;
-    private final String EYE_BAT_NAME = "EyeBat";
     private float gameTotalDurationSeconds;
-    private float eyeBatSpawnStartTime;
-
-    private float treeSpawnTimer;
-    private float treeSpawnInterval = 20.0f;
-    private int maxTreesOnMap = 3;
-    private final String TREE_ENEMY_NAME = "Tree";
-    private int initialTreeCount = 2;
-
-
+    private WaveDirector waveDirector;
     private final String BOSS_ENEMY_NAME = "Boss";
-    private boolean bossHasSpawned = false;
-    private float bossSpawnTimeThreshold;
-    private float bossDashAbilityTimer = 0f;
-    private static final float BOSS_DASH_COOLDOWN = 5.0f;
-=======
-/**
- * Manages the spawning, updating, and interaction of enemies in the game.
- */
-public class EnemyController {
-    private Array<Enemy> activeEnemies;
-    private GameAssetManager assetManager;
-    private Player player; // Reference to the player for targeting
-
-    // General spawn timer (for any enemies not covered by specific rules)
-    private float generalSpawnTimer;
-    private float generalSpawnInterval = 3.0f; // Time between general enemy spawns
-
-    // NEW: Tentacle Monster specific spawn variables
-    private float tentacleMonsterSpawnTimer;
-    private float tentacleMonsterSpawnInterval = 3.0f; // Each 3 seconds
-    private final String TENTACLE_MONSTER_NAME = "TentacleMonster"; // Ensure this matches JSON
-
-    // NEW: Eye Bat specific spawn variables
-    private float eyeBatSpawnTimer;
-    private float eyeBatSpawnInterval = 10.0f; // Each 10 seconds
-    private final String EYE_BAT_NAME = "EyeBat"; // Ensure this matches JSON
-    private float gameTotalDurationSeconds; // Received from GameView
-    private float eyeBatSpawnStartTime; // t/4 seconds
-
-    // NEW: Tree enemy specific spawn variables
-    private float treeSpawnTimer;
-    private float treeSpawnInterval = 20.0f; // Initial interval for trees
-    private int maxTreesOnMap = 3; // Maximum number of trees active at once
-    private final String TREE_ENEMY_NAME = "Tree"; // Ensure this matches JSON
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
-
-    private Array<Bullet> enemyBullets;
+
+    private static final float BROADPHASE_CELL_SIZE = 128f;
+    private final CollisionService collisionService = new CollisionService(BROADPHASE_CELL_SIZE);
+    private final IntArray broadphaseCandidates = new IntArray(false, 64);
+    private final Rectangle overlapScratch = new Rectangle();
+    private boolean useSpatialHash = true;
+    private int lastBulletPairTests = 0;
+
+    private static final int POOL_MAX_FREE = 1024;
+    private final CountingPool<Enemy> enemyPool = new CountingPool<Enemy>(64, POOL_MAX_FREE) {
+        @Override protected Enemy newObject() { return new Enemy(); }
+    };
+    private final CountingPool<Seed> seedPool = new CountingPool<Seed>(64, POOL_MAX_FREE) {
+        @Override protected Seed newObject() { return new Seed(); }
+    };
+
+    // System order within one engine tick; DrawSystem only runs through draw().
+    private static final int PRIORITY_FLOW_FIELD = 0;
+    private static final int PRIORITY_AI = 1;
+    private static final int PRIORITY_MOVEMENT = 2;
+    private static final int PRIORITY_DEATH = 3;
+    private static final int PRIORITY_SHOOTING = 4;
+    private static final int PRIORITY_PROJECTILES = 5;
+    private static final int PRIORITY_CONTACT_DAMAGE = 6;
+    private static final int PRIORITY_DRAW = 7;
+    private static final int ENEMY_BULLET_SPEED = 300;
+    // Ashley's default pools keep only 100 free entities and components, too few for a late-game horde.
+    private final PooledEngine engine = new PooledEngine(64, POOL_MAX_FREE * 2, 64, POOL_MAX_FREE * 2);
+    private final EnemyArchetypeRegistry archetypes;
+    private int bossTypeId = -1;
+    private int[] liveCountByType = new int[0];
+    private final ComponentMapper<EnemyComponent> enemyMapper = ComponentMapper.getFor(EnemyComponent.class);
+    private final ComponentMapper<PickupComponent> pickupMapper = ComponentMapper.getFor(PickupComponent.class);
+    private final Array<Entity> enemyEntities = new Array<>();
+    private final Array<Entity> seedEntities = new Array<>();
+    private DeathSystem deathSystem;
+    private DrawSystem drawSystem;
+    private MovementSystem movementSystem;
+    private AiSystem aiSystem;
+    private ContactDamageSystem contactDamageSystem;
+
+    // Culling works on current positions; the margin covers the blend back to the previous step and any sprite overhang.
+    private static final float CULL_MARGIN = 64f;
+    private final Rectangle cullBounds = new Rectangle();
+    private final RenderQueue immediateQueue = new RenderQueue(256);
+
+    // Covers a 3136px square around the player, past the spawn rings; chasers further out head straight in.
+    private static final float FLOW_FIELD_CELL_SIZE = 64f;
+    private static final int FLOW_FIELD_RADIUS = 24;
+    private static final float FLOW_FIELD_OBSTACLE_MARGIN = 24f;
+    private final FlowField flowField = new FlowField(FLOW_FIELD_CELL_SIZE, FLOW_FIELD_RADIUS, FLOW_FIELD_OBSTACLE_MARGIN);
+
+    // Leashes only need to catch enemies the player has long outrun, so a few checks a second are plenty.
+    private static final float LEASH_CHECK_INTERVAL = 0.5f;
+    private final Vector2 spawnPoint = new Vector2();
+    private float leashTimer;
+    private int relocatedEnemies, recycledEnemies;
+
+    // Waves go through a queue that places at most this many enemies per tick, so a big wave never lands in one tick.
+    // A count rather than a time budget keeps spawn timing identical on every machine, which replays depend on.
+    private static final int DEFAULT_SPAWNS_PER_TICK = 8;
+    private final SpawnQueue spawnQueue = new SpawnQueue(64);
+    private int spawnsPerTick = DEFAULT_SPAWNS_PER_TICK;
+    private float elapsedSeconds;
+    private int spawnsDrained;
+    private float totalSpawnLatency, peakSpawnLatency;
+    private long lastDrainNanos, peakDrainNanos;
+    private final WaveDirector.Spawner waveSpawner = new WaveDirector.Spawner() {
+        @Override public int getLiveCount(int typeId) { return countSpecificEnemy(typeId) + spawnQueue.getPendingCount(typeId); }
+        @Override public int getLiveTotal() { return activeEnemies.size + spawnQueue.size(); }
+        @Override public int spawn(int typeId, int count, boolean nearPlayer) {
+            for (int i = 0; i < count; i++) spawnQueue.add(typeId, nearPlayer, elapsedSeconds);
+            return count;
+        }
+    };
+
+    private BulletStore enemyBullets;
     private TextureRegion enemyBulletTextureRegion;
     private static final float ENEMY_BULLET_DRAW_WIDTH = 15f;
     private static final float ENEMY_BULLET_DRAW_HEIGHT = 15f;
@@ -88,23 +135,22 @@ public class EnemyController {
     private Array<Seed> droppedSeeds;
     private TextureRegion seedTextureRegion;
 
-<<<<<<< HEAD
-    private int enemiesKilled = 0;
-    private float stateTimeForPlayerBounds = 0f;
-=======
-    private int enemiesKilled = 0; // NEW: Kills counter
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    // Size of the visible area around the player; spawn rings and bullet culling are derived from it.
+    private float viewportWidth;
+    private float viewportHeight;
+    private ProjectileSystem projectileSystem;
+    private final RandomXS128 random;
 
-    public EnemyController(GameAssetManager assetManager, Player player, float gameTotalDurationMinutes) {
+    public EnemyController(GameAssetManager assetManager, Player player, float gameTotalDurationMinutes,
+                           float viewportWidth, float viewportHeight, RandomXS128 random) {
         this.assetManager = assetManager;
         this.player = player;
+        this.random = random;
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.archetypes = new EnemyArchetypeRegistry(assetManager);
         this.activeEnemies = new Array<>();
-        this.generalSpawnTimer = 0f;
-        this.tentacleMonsterSpawnTimer = 0f;
-        this.eyeBatSpawnTimer = 0f;
-<<<<<<< HEAD
-        this.treeSpawnTimer = 0f;
-        this.enemyBullets = new Array<>();
+        this.enemyBullets = new BulletStore(64, ENEMY_BULLET_DRAW_WIDTH, ENEMY_BULLET_DRAW_HEIGHT);
         this.droppedSeeds = new Array<>();
 
         this.gameTotalDurationSeconds = gameTotalDurationMinutes * 60f;
@@ -112,372 +158,327 @@ public class EnemyController {
             this.gameTotalDurationSeconds = 1.0f;
             Gdx.app.error("EnemyController", "Game total duration is zero or negative, defaulting to 1s.");
         }
-        this.eyeBatSpawnStartTime = this.gameTotalDurationSeconds / 4f;
-        this.bossSpawnTimeThreshold = this.gameTotalDurationSeconds / 2f;
 
-        Texture bulletTexture = assetManager.getTexture(assetManager.BULLET_TEXTURE_PATH);
-        if (bulletTexture != null) enemyBulletTextureRegion = new TextureRegion(bulletTexture);
-        else {
+        enemyBulletTextureRegion = assetManager.getTextureRegion(assetManager.BULLET_TEXTURE_PATH);
+        if (enemyBulletTextureRegion == null) {
             Gdx.app.error("EnemyController", "Failed to load enemy bullet texture.");
             enemyBulletTextureRegion = new TextureRegion(new Texture(1,1,com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888));
         }
 
-        Texture seedTexture = assetManager.getTexture(assetManager.ENEMY_SEED_TEXTURE_PATH);
-        if (seedTexture != null) seedTextureRegion = new TextureRegion(seedTexture);
-        else {
+        seedTextureRegion = assetManager.getTextureRegion(assetManager.ENEMY_SEED_TEXTURE_PATH);
+        if (seedTextureRegion == null) {
             Gdx.app.error("EnemyController", "Failed to load seed texture.");
             seedTextureRegion = new TextureRegion(new Texture(1,1,com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888));
         }
 
-        Gdx.app.log("EnemyController", "Spawning initial Trees...");
-        for (int i = 0; i < initialTreeCount; i++) {
-            if (countSpecificEnemy(TREE_ENEMY_NAME) < maxTreesOnMap) spawnSpecificEnemyAtRandomPosition(TREE_ENEMY_NAME);
-            else break;
-        }
+        archetypes.buildAll(assetManager.getAllEnemyData());
+        liveCountByType = new int[archetypes.size()];
+        bossTypeId = archetypes.getTypeId(BOSS_ENEMY_NAME);
+        waveDirector = new WaveDirector(assetManager.getWaveSchedule(), archetypes, gameTotalDurationSeconds);
+        waveDirector.logSchedule();
+        setupSystems();
+        prewarmPools();
+        setupListeners();
     }
 
     public void update(float delta, float gameElapsedTimeSeconds) {
-        stateTimeForPlayerBounds += delta;
-
-
-        if (!bossHasSpawned && gameElapsedTimeSeconds >= bossSpawnTimeThreshold) {
-            Gdx.app.log("EnemyController", "Half game time reached. Attempting to spawn Boss near player.");
-            spawnSpecificEnemyAtRandomPosition(BOSS_ENEMY_NAME);
-            bossHasSpawned = true;
-        }
-
-
-        if (bossHasSpawned) {
-            bossDashAbilityTimer += delta;
-            if (bossDashAbilityTimer >= BOSS_DASH_COOLDOWN) {
-                for (Enemy enemy : activeEnemies) {
-                    if (enemy.getName().equals(BOSS_ENEMY_NAME) && enemy.isAlive() && !enemy.isDashing() && !enemy.isDying()) {
-                        Gdx.app.log("EnemyController", "Boss attempting dash.");
-                        enemy.startDash(player.getX(), player.getY());
-                        break;
-                    }
-                }
-                bossDashAbilityTimer = 0f;
-            }
-        }
-
-
-        tentacleMonsterSpawnTimer += delta;
-        if (tentacleMonsterSpawnTimer >= tentacleMonsterSpawnInterval) {
-            int numToSpawn = (int) (gameElapsedTimeSeconds / 30.0f);
-            numToSpawn = Math.max(1, numToSpawn);
-            if (numToSpawn > 0) {
-                for (int i = 0; i < numToSpawn; i++) spawnSpecificEnemy(TENTACLE_MONSTER_NAME); // Spawns at edge
-=======
-        this.treeSpawnTimer = 0f; // Initialize tree timer
-        this.enemyBullets = new Array<>();
-        this.droppedSeeds = new Array<>();
-
-        this.gameTotalDurationSeconds = gameTotalDurationMinutes * 60f; // Convert minutes to seconds
-        this.eyeBatSpawnStartTime = this.gameTotalDurationSeconds / 4f;
+        collisionService.invalidate();
+        elapsedSeconds = gameElapsedTimeSeconds;
+        waveDirector.update(gameElapsedTimeSeconds, waveSpawner);
+        drainSpawnQueue();
 
-        // Load enemy bullet texture
-        Texture bulletTexture = assetManager.getTexture(assetManager.BULLET_TEXTURE_PATH);
-        if (bulletTexture != null) {
-            enemyBulletTextureRegion = new TextureRegion(bulletTexture);
-        } else {
-            Gdx.app.error("EnemyController", "Failed to load enemy bullet texture. Using default white square.");
-            enemyBulletTextureRegion = new TextureRegion(new Texture(1,1,com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888));
+        leashTimer += delta;
+        if (leashTimer >= LEASH_CHECK_INTERVAL) {
+            leashTimer = 0f;
+            leashStragglers();
         }
 
-        // Load seed texture
-        Texture seedTexture = assetManager.getTexture(assetManager.ENEMY_SEED_TEXTURE_PATH);
-        if (seedTexture != null) {
-            seedTextureRegion = new TextureRegion(seedTexture);
-        } else {
-            Gdx.app.error("EnemyController", "Failed to load seed texture. Using default white square.");
-            seedTextureRegion = new TextureRegion(new Texture(1,1,com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888));
-        }
+        engine.update(delta);
     }
 
-    public void update(float delta, float gameElapsedTimeSeconds) { // Pass elapsed time from GameView
-        // --- General Enemy Spawning (if any remain, or as a fallback) ---
-        generalSpawnTimer += delta;
-        if (generalSpawnTimer >= generalSpawnInterval) {
-            // If you only want rule-based spawning, you can remove this general spawn.
-            // For now, let's keep it but ensure it doesn't spawn the specific types.
-            // spawnRandomEnemyExcept(TENTACLE_MONSTER_NAME, EYE_BAT_NAME, TREE_ENEMY_NAME);
-            generalSpawnTimer = 0f;
-        }
-
-        // NEW: Tentacle Monster Spawning Logic
-        tentacleMonsterSpawnTimer += delta;
-        if (tentacleMonsterSpawnTimer >= tentacleMonsterSpawnInterval) {
-            int numToSpawn = (int) (gameElapsedTimeSeconds / 30.0f); // i/30 of this enemy
-            numToSpawn = Math.max(1, numToSpawn); // Ensure at least 1 spawns after first interval
-            if (numToSpawn > 0) {
-                Gdx.app.log("EnemyController", "Spawning " + numToSpawn + " TentacleMonsters.");
-                for (int i = 0; i < numToSpawn; i++) {
-                    spawnSpecificEnemy(TENTACLE_MONSTER_NAME);
-                }
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
-            }
-            tentacleMonsterSpawnTimer = 0f;
-        }
+    private void drainSpawnQueue() {
+        lastDrainNanos = 0;
+        if (spawnQueue.isEmpty()) return;
+        long start = TimeUtils.nanoTime();
+        for (int placed = 0; placed < spawnsPerTick && !spawnQueue.isEmpty(); placed++) {
+            int typeId = spawnQueue.peekTypeId();
+            boolean nearPlayer = spawnQueue.peekNearPlayer();
+            float latency = elapsedSeconds - spawnQueue.peekDueTime();
+            spawnQueue.removeFirst();
+            if (nearPlayer) spawnSpecificEnemyAtRandomPosition(typeId);
+            else spawnSpecificEnemy(typeId);
+            spawnsDrained++;
+            totalSpawnLatency += latency;
+            if (latency > peakSpawnLatency) peakSpawnLatency = latency;
+        }
+        lastDrainNanos = TimeUtils.nanoTime() - start;
+        if (lastDrainNanos > peakDrainNanos) peakDrainNanos = lastDrainNanos;
+    }
 
-<<<<<<< HEAD
-        // Eye Bat Spawning Logic
-        eyeBatSpawnTimer += delta;
-        if (gameElapsedTimeSeconds >= eyeBatSpawnStartTime && eyeBatSpawnTimer >= eyeBatSpawnInterval) {
-            float formulaResult = (4 * gameElapsedTimeSeconds - gameTotalDurationSeconds + 30) / 30.0f;
-            int numToSpawn = Math.max(0, MathUtils.floor(formulaResult));
-            numToSpawn = Math.max(1, numToSpawn);
-            if (numToSpawn > 0) {
-                for (int i = 0; i < numToSpawn; i++) spawnSpecificEnemy(EYE_BAT_NAME); // Spawns at edge
-=======
-        // NEW: Eye Bat Spawning Logic
-        eyeBatSpawnTimer += delta;
-        if (gameElapsedTimeSeconds >= eyeBatSpawnStartTime && eyeBatSpawnTimer >= eyeBatSpawnInterval) {
-            // Formula: (4i - t + 30) / 30, where i is gameElapsedTimeSeconds, t is gameTotalDurationSeconds
-            float formulaResult = (4 * gameElapsedTimeSeconds - gameTotalDurationSeconds + 30) / 30.0f;
-            int numToSpawn = Math.max(0, MathUtils.floor(formulaResult)); // Ensure non-negative and floor
-            numToSpawn = Math.max(1, numToSpawn); // Ensure at least 1 spawns after first interval
-            if (numToSpawn > 0) {
-                Gdx.app.log("EnemyController", "Spawning " + numToSpawn + " EyeBats.");
-                for (int i = 0; i < numToSpawn; i++) {
-                    spawnSpecificEnemy(EYE_BAT_NAME);
-                }
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    // Runs between engine updates, so removed entities go straight back to the pool through the listener.
+    private void leashStragglers() {
+        float playerX = player.getX();
+        float playerY = player.getY();
+        for (int i = enemyEntities.size - 1; i >= 0; i--) {
+            Enemy enemy = activeEnemies.get(i);
+            EnemyArchetype archetype = enemy.getArchetype();
+            if (archetype.getLeashPolicy() == EnemyArchetype.LEASH_NONE || !enemy.isAlive() || enemy.isDying()) continue;
+            float dx = enemy.getX() + archetype.getDrawWidth() / 2f - playerX;
+            float dy = enemy.getY() + archetype.getDrawHeight() / 2f - playerY;
+            float radius = archetype.getLeashRadius();
+            if (dx * dx + dy * dy <= radius * radius) continue;
+            if (archetype.getLeashPolicy() == EnemyArchetype.LEASH_RELOCATE) {
+                pickEdgeSpawnPoint(archetype, spawnPoint);
+                enemy.relocate(spawnPoint.x, spawnPoint.y);
+                relocatedEnemies++;
+            } else {
+                engine.removeEntity(enemyEntities.get(i));
+                recycledEnemies++;
             }
-            eyeBatSpawnTimer = 0f;
         }
+    }
 
-<<<<<<< HEAD
-        // Tree Dynamic Spawning Logic
-        treeSpawnTimer += delta;
-        int currentTrees = countSpecificEnemy(TREE_ENEMY_NAME);
-        if (currentTrees < maxTreesOnMap) {
-            float dynamicTreeSpawnInterval = Math.max(5.0f, treeSpawnInterval * (1.0f - (gameElapsedTimeSeconds / gameTotalDurationSeconds * 0.5f)));
-            if (treeSpawnTimer >= dynamicTreeSpawnInterval) {
-                spawnSpecificEnemyAtRandomPosition(TREE_ENEMY_NAME);
-                treeSpawnTimer = 0f;
+    private void setupListeners() {
+        engine.addEntityListener(Families.ENEMIES, new EntityListener() {
+            @Override public void entityAdded(Entity entity) {
+                EnemyComponent component = enemyMapper.get(entity);
+                Enemy enemy = component.enemy;
+                component.slot = enemyEntities.size;
+                activeEnemies.add(enemy);
+                enemyEntities.add(entity);
+                adjustLiveCount(enemy.getArchetype().getTypeId(), 1);
             }
-        }
-
-        // Update existing enemies
-        for (int i = activeEnemies.size - 1; i >= 0; i--) {
-            Enemy enemy = activeEnemies.get(i);
-            float playerWorldX = player.getX();
-            float playerWorldY = player.getY();
-            float playerTargetX = playerWorldX;
-            float playerTargetY = playerWorldY;
-
-            enemy.update(delta, playerTargetX, playerTargetY);
-
-            if (enemy.isDying() && enemy.isDeathAnimationFinished()) {
-                Gdx.app.log("EnemyController", enemy.getName() + " death animation finished. Removing.");
-                if (seedTextureRegion != null) {
-                    droppedSeeds.add(new Seed(enemy.getX() + enemy.getBounds().width / 2,
-                        enemy.getY() + enemy.getBounds().height / 2,
-                        seedTextureRegion, enemy.getName().equals(TREE_ENEMY_NAME) || enemy.getName().equals(BOSS_ENEMY_NAME) ? 10 : 3));
+            @Override public void entityRemoved(Entity entity) {
+                int slot = enemyMapper.get(entity).slot;
+                if (slot < 0) return;
+                Enemy enemy = activeEnemies.get(slot);
+                int last = enemyEntities.size - 1;
+                if (slot != last) {
+                    Entity moved = enemyEntities.get(last);
+                    enemyEntities.set(slot, moved);
+                    activeEnemies.set(slot, activeEnemies.get(last));
+                    enemyMapper.get(moved).slot = slot;
                 }
-                activeEnemies.removeIndex(i);
-                enemiesKilled++;
-                continue;
+                enemyEntities.pop();
+                activeEnemies.pop();
+                adjustLiveCount(enemy.getArchetype().getTypeId(), -1);
+                enemyPool.free(enemy);
             }
-
-            if (player.isAlive() && !enemy.isDying() &&
-                enemy.getEnemyData() != null && enemy.getEnemyData().getDamage() > 0 &&
-                enemy.getBounds().overlaps(player.getBounds(stateTimeForPlayerBounds))) {
-=======
-        // NEW: Tree Spawning Logic
-        treeSpawnTimer += delta;
-        // Count current number of trees
-        int currentTrees = 0;
-        for (Enemy enemy : activeEnemies) {
-            if (enemy.getName().equals(TREE_ENEMY_NAME)) {
-                currentTrees++;
+        });
+        engine.addEntityListener(Families.PICKUPS, new EntityListener() {
+            @Override public void entityAdded(Entity entity) {
+                PickupComponent component = pickupMapper.get(entity);
+                component.slot = seedEntities.size;
+                droppedSeeds.add(component.seed);
+                seedEntities.add(entity);
             }
-        }
-
-        if (currentTrees < maxTreesOnMap && treeSpawnTimer >= treeSpawnInterval) {
-            // Make trees spawn more frequently over time, up to a certain point
-            float dynamicTreeSpawnInterval = Math.max(5.0f, treeSpawnInterval * (1.0f - (gameElapsedTimeSeconds / gameTotalDurationSeconds * 0.5f)));
-            if (treeSpawnTimer >= dynamicTreeSpawnInterval) {
-                spawnSpecificEnemy(TREE_ENEMY_NAME);
-                treeSpawnTimer = 0f;
-                Gdx.app.log("EnemyController", "Spawned a Tree enemy. Current trees: " + (currentTrees + 1));
+            @Override public void entityRemoved(Entity entity) {
+                int slot = pickupMapper.get(entity).slot;
+                if (slot < 0) return;
+                Seed seed = droppedSeeds.get(slot);
+                int last = seedEntities.size - 1;
+                if (slot != last) {
+                    Entity moved = seedEntities.get(last);
+                    seedEntities.set(slot, moved);
+                    droppedSeeds.set(slot, droppedSeeds.get(last));
+                    pickupMapper.get(moved).slot = slot;
+                }
+                seedEntities.pop();
+                droppedSeeds.pop();
+                seedPool.free(seed);
             }
-        }
+        });
+    }
 
+    private void setupSystems() {
+        deathSystem = new DeathSystem(PRIORITY_DEATH, seedPool, seedTextureRegion);
+        drawSystem = new DrawSystem(PRIORITY_DRAW, enemyBullets, enemyBulletTextureRegion);
+        ShootingSystem shootingSystem = new ShootingSystem(PRIORITY_SHOOTING, player, enemyBullets);
+        // Shooting is an AI decision: AiSystem runs it on its own schedule instead of the engine every tick.
+        shootingSystem.setProcessing(false);
+        aiSystem = new AiSystem(PRIORITY_AI, player, flowField, shootingSystem, GameSettings.DEFAULT_AI_BUDGET_MICROS);
+        movementSystem = new MovementSystem(PRIORITY_MOVEMENT, player, viewportWidth, viewportHeight);
+        engine.addSystem(new FlowFieldSystem(PRIORITY_FLOW_FIELD, player, flowField));
+        engine.addSystem(aiSystem);
+        engine.addSystem(movementSystem);
+        engine.addSystem(deathSystem);
+        engine.addSystem(shootingSystem);
+        projectileSystem = new ProjectileSystem(PRIORITY_PROJECTILES, player, enemyBullets, viewportWidth, viewportHeight);
+        engine.addSystem(projectileSystem);
+        contactDamageSystem = new ContactDamageSystem(PRIORITY_CONTACT_DAMAGE, collisionService, player,
+            activeEnemies, enemyEntities, enemyBullets, droppedSeeds, seedEntities);
+        engine.addSystem(contactDamageSystem);
+        engine.addSystem(drawSystem);
+    }
 
-        // Update existing enemies and handle interactions
-        for (int i = activeEnemies.size - 1; i >= 0; i--) {
-            Enemy enemy = activeEnemies.get(i);
-            float playerCenterX = player.getX() + player.getIdleAnimation().getKeyFrame(0).getRegionWidth() * Player.PLAYER_SCALE_FACTOR / 2;
-            float playerCenterY = player.getY() + player.getIdleAnimation().getKeyFrame(0).getRegionHeight() * Player.PLAYER_SCALE_FACTOR / 2;
+    private void addEnemyEntity(Enemy enemy) {
+        Entity entity = engine.createEntity();
+        EnemyComponent enemyComponent = engine.createComponent(EnemyComponent.class);
+        enemyComponent.enemy = enemy;
+        entity.add(enemyComponent);
+        entity.add(engine.createComponent(MoverComponent.class));
+        if (!enemy.getArchetype().isMover()) entity.add(engine.createComponent(ObstacleComponent.class));
+        if (enemy.getArchetype().isShooter()) {
+            ShooterComponent shooter = engine.createComponent(ShooterComponent.class);
+            shooter.bulletSpeed = ENEMY_BULLET_SPEED;
+            entity.add(shooter);
+        }
+        if (enemy.getEnemyData() != null && enemy.getEnemyData().getDamage() > 0) {
+            entity.add(engine.createComponent(CollidableComponent.class));
+        }
+        RenderableComponent renderable = engine.createComponent(RenderableComponent.class);
+        renderable.layer = RenderableComponent.LAYER_ENEMY;
+        entity.add(renderable);
+        engine.addEntity(entity);
+    }
 
-            // Only move if not a static enemy like a Tree
-            if (!enemy.getName().equals(TREE_ENEMY_NAME)) {
-                enemy.update(delta, playerCenterX, playerCenterY);
-            } else {
-                enemy.update(delta, enemy.getX(), enemy.getY()); // Trees don't move towards player
-            }
+    // Sized for the most enemies the schedule can have alive, so pools, entity lists and family arrays stop
+    // growing once a run is under way. Runs before the listeners exist, while no entity carries a real enemy.
+    private void prewarmPools() {
+        int prewarmCount = Math.min(POOL_MAX_FREE, waveDirector.getExpectedPopulation(gameTotalDurationSeconds));
+        enemyPool.prewarm(prewarmCount);
+        seedPool.prewarm(prewarmCount);
+        enemyPool.resetCounters();
+        seedPool.resetCounters();
+        activeEnemies.ensureCapacity(prewarmCount);
+        enemyEntities.ensureCapacity(prewarmCount);
+        droppedSeeds.ensureCapacity(prewarmCount);
+        seedEntities.ensureCapacity(prewarmCount);
+        spawnQueue.ensureCapacity(waveDirector.getPeakSpawnsWithin(1f), archetypes.size());
+        collisionService.prewarm(prewarmCount + enemyBullets.getCapacity());
+        contactDamageSystem.prewarm(prewarmCount, enemyBullets.getCapacity());
+        prewarmEngine(prewarmCount);
+        Gdx.app.log("EnemyController", "Prewarmed enemy and seed pools with " + prewarmCount + " instances each.");
+    }
 
-            // Enemy attack logic - collision with player (only for non-Tree enemies)
-            if (player.isAlive() && enemy.getBounds().overlaps(player.getBounds(0)) && enemy.getEnemyData().getDamage() > 0) {
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
-                if (enemy.canAttack(delta)) {
-                    player.takeDamage(enemy.getEnemyData().getDamage());
-                }
+    // PooledEngine only pools entities and components once they are removed, so cycle a full horde of each through it.
+    // The cycle runs inside two engine updates with every system paused: adds and removals made during an update
+    // are queued, and that queue and its operation pool have to grow to the busiest tick's size as well.
+    private void prewarmEngine(final int count) {
+        // A family's entity list only exists once something asks for it; no system iterates pickups, only the listener does.
+        engine.getEntitiesFor(Families.PICKUPS);
+        ImmutableArray<EntitySystem> systems = engine.getSystems();
+        boolean[] wasProcessing = new boolean[systems.size()];
+        for (int i = 0; i < systems.size(); i++) {
+            wasProcessing[i] = systems.get(i).checkProcessing();
+            systems.get(i).setProcessing(false);
+        }
+        EntitySystem cycle = new EntitySystem() {
+            private boolean added;
+
+            @Override
+            public void update(float deltaTime) {
+                if (!added) addPrewarmEntities(count);
+                else for (int i = 0; i < engine.getEntities().size(); i++) engine.removeEntity(engine.getEntities().get(i));
+                added = true;
             }
+        };
+        engine.addSystem(cycle);
+        engine.update(0f);
+        engine.update(0f);
+        engine.removeSystem(cycle);
+        for (int i = 0; i < systems.size(); i++) systems.get(i).setProcessing(wasProcessing[i]);
+    }
 
-<<<<<<< HEAD
-            // EyeBat shooting logic with added logging
-            if (enemy.getName().equals(EYE_BAT_NAME) && enemy.isAlive() && !enemy.isDying()) {
-                // Gdx.app.log("EnemyCtrl_EyeBat", "Checking EyeBat. Alive: " + enemy.isAlive() + ", NotDying: " + !enemy.isDying() + ", ShootTimerInEnemy: " + enemy.getShootTimerValueForDebug());
-                if (enemy.canShoot(delta)) {
-                    Gdx.app.log("EnemyCtrl_EyeBat", "EyeBat CAN SHOOT. Calling shootEnemyBullet for " + enemy.getName());
-                    shootEnemyBullet(enemy, playerTargetX, playerTargetY);
-                }
-            }
+    private void addPrewarmEntities(int count) {
+        for (int i = 0; i < count; i++) {
+            Entity enemy = engine.createEntity();
+            enemy.add(engine.createComponent(EnemyComponent.class));
+            enemy.add(engine.createComponent(MoverComponent.class));
+            enemy.add(engine.createComponent(ObstacleComponent.class));
+            enemy.add(engine.createComponent(ShooterComponent.class));
+            enemy.add(engine.createComponent(CollidableComponent.class));
+            enemy.add(engine.createComponent(RenderableComponent.class));
+            engine.addEntity(enemy);
+            Entity pickup = engine.createEntity();
+            pickup.add(engine.createComponent(PickupComponent.class));
+            pickup.add(engine.createComponent(RenderableComponent.class));
+            engine.addEntity(pickup);
         }
+    }
 
-        // Update enemy bullets
-        for (int i = enemyBullets.size - 1; i >= 0; i--) {
-            Bullet bullet = enemyBullets.get(i);
-            bullet.update(delta);
-            if (player.isAlive() && !player.isTakingDamage() &&
-                bullet.getBounds().overlaps(player.getBounds(stateTimeForPlayerBounds))) {
-                player.takeDamage(bullet.getDamage());
-                enemyBullets.removeIndex(i);
-            } else if (bullet.getX() < -bullet.getWidth() - 200 || bullet.getX() > Gdx.graphics.getWidth() + 200 ||
-                bullet.getY() < -bullet.getHeight() - 200 || bullet.getY() > Gdx.graphics.getHeight() + 200) {
-                enemyBullets.removeIndex(i);
-            }
-        }
-        // Check for player collecting seeds
-        if (player.isAlive()) {
-            Rectangle playerBounds = player.getBounds(stateTimeForPlayerBounds);
-=======
-            // EyeBat shooting logic (already in place)
-            if (enemy.getName().equals(EYE_BAT_NAME) && enemy.isAlive()) {
-                if (enemy.canShoot(delta)) {
-                    shootEnemyBullet(enemy, playerCenterX, playerCenterY);
-                }
-            }
+    public void setViewportSize(float width, float height) {
+        this.viewportWidth = width;
+        this.viewportHeight = height;
+        if (projectileSystem != null) projectileSystem.setViewportSize(width, height);
+        if (movementSystem != null) movementSystem.setViewportSize(width, height);
+    }
 
-            if (!enemy.isAlive()) {
-                Gdx.app.log("EnemyController", enemy.getName() + " defeated!");
-                // Drop a seed when enemy is defeated
-                // Trees also drop seeds, maybe adjust XP value for trees?
-                droppedSeeds.add(new Seed(enemy.getX() + enemy.getBounds().width / 2,
-                    enemy.getY() + enemy.getBounds().height / 2,
-                    seedTextureRegion, enemy.getName().equals(TREE_ENEMY_NAME) ? 5 : 3)); // Trees give more XP
-                activeEnemies.removeIndex(i);
-                enemiesKilled++; // Increment kills counter
-            }
-        }
+    public void logPoolStats() {
+        Gdx.app.log("EnemyController", "Enemy pool: hits=" + enemyPool.getHits() + ", misses=" + enemyPool.getMisses() + ", free=" + enemyPool.getFree() + ", peak=" + enemyPool.peak);
+        Gdx.app.log("EnemyController", "Seed pool: hits=" + seedPool.getHits() + ", misses=" + seedPool.getMisses() + ", free=" + seedPool.getFree() + ", peak=" + seedPool.peak);
+        Gdx.app.log("EnemyController", "Enemy bullets: capacity=" + enemyBullets.getCapacity() + ", grows=" + enemyBullets.getGrowCount());
+        Gdx.app.log("EnemyController", "Leash: relocated=" + relocatedEnemies + ", recycled=" + recycledEnemies);
+        waveDirector.logStats();
+        Gdx.app.log("EnemyController", "Spawn queue: depth=" + spawnQueue.size() + ", peak depth=" + spawnQueue.getPeakSize() + ", budget=" + spawnsPerTick
+            + "/tick, latency avg=" + (int) (getAverageSpawnLatency() * 1000) + "ms, peak=" + (int) (peakSpawnLatency * 1000) + "ms, peak drain=" + peakDrainNanos / 1000 + "us");
+        aiSystem.logStats();
+    }
 
-        // Update enemy bullets (already in place)
-        for (int i = enemyBullets.size - 1; i >= 0; i--) {
-            Bullet bullet = enemyBullets.get(i);
-            bullet.update(delta);
-            // Check if enemy bullet hits player
-            if (player.isAlive() && bullet.getBounds().overlaps(player.getBounds(0))) {
-                player.takeDamage(bullet.getDamage());
-                enemyBullets.removeIndex(i);
-            } else if (bullet.getX() < -bullet.getWidth() || bullet.getX() > Gdx.graphics.getWidth() ||
-                bullet.getY() < -bullet.getHeight() || bullet.getY() > Gdx.graphics.getHeight()) {
-                enemyBullets.removeIndex(i);
-            }
-        }
+    public void draw(SpriteBatch batch) {
+        draw(batch, 1f);
+    }
 
-        // Check for player collecting seeds (already in place)
-        if (player.isAlive()) {
-            Rectangle playerBounds = player.getBounds(stateTime); // Use player's stateTime for accurate bounds
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
-            for (int i = droppedSeeds.size - 1; i >= 0; i--) {
-                Seed seed = droppedSeeds.get(i);
-                if (playerBounds.overlaps(seed.getBounds())) {
-                    player.addXp(seed.getXpValue());
-                    Gdx.app.log("EnemyController", "Player collected a seed, gained " + seed.getXpValue() + " XP!");
-                    droppedSeeds.removeIndex(i);
-                }
-            }
-        }
+    /** Draws with positions blended {@code alpha} of the way from the previous to the latest simulation step. */
+    public void draw(SpriteBatch batch, float alpha) {
+        drawSystem.draw(immediateQueue, alpha, null);
+        immediateQueue.draw(batch);
     }
 
-    public void draw(SpriteBatch batch) {
-<<<<<<< HEAD
-        for (Enemy enemy : activeEnemies) enemy.draw(batch);
-        for (Bullet bullet : enemyBullets) bullet.draw(batch);
-        for (Seed seed : droppedSeeds) seed.draw(batch);
+    /** Submits only what lies within the camera's view, plus a margin; the caller draws the queue. */
+    public void draw(RenderQueue queue, float alpha, OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f + CULL_MARGIN;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f + CULL_MARGIN;
+        cullBounds.set(camera.position.x - halfWidth, camera.position.y - halfHeight, halfWidth * 2f, halfHeight * 2f);
+        drawSystem.draw(queue, alpha, cullBounds);
     }
 
-    private void spawnSpecificEnemy(String enemyName) {
-        EnemyData enemyData = assetManager.getEnemyDataByName(enemyName);
-        if (enemyData == null) {
-            Gdx.app.error("EnemyController", "EdgeSpawn: Enemy data not found for: " + enemyName + ". Cannot spawn.");
+    public DrawSystem getDrawSystem() { return drawSystem; }
+
+    private void spawnSpecificEnemy(int typeId) {
+        EnemyArchetype archetype = archetypes.get(typeId);
+        if (archetype == null) {
+            Gdx.app.error("EnemyController", "EdgeSpawn: Enemy type not found: " + typeId + ". Cannot spawn.");
             return;
         }
-        if (enemyName.equals(BOSS_ENEMY_NAME)) {
-            Gdx.app.debug("EnemyController", "spawnSpecificEnemy called for Boss, using near player logic via spawnEnemy(data, false).");
-            spawnEnemy(enemyData, false);
+        if (archetype.isBoss()) {
+            spawnEnemy(archetype, false);
         } else {
-            spawnEnemy(enemyData, true);
+            spawnEnemy(archetype, true);
         }
     }
 
-    private void spawnSpecificEnemyAtRandomPosition(String enemyName) {
-        EnemyData enemyData = assetManager.getEnemyDataByName(enemyName);
-        if (enemyData == null) {
-            Gdx.app.error("EnemyController", "RandomMapSpawn: Enemy data not found for: " + enemyName + ". Cannot spawn.");
+    private void spawnSpecificEnemyAtRandomPosition(int typeId) {
+        EnemyArchetype archetype = archetypes.get(typeId);
+        if (archetype == null) {
+            Gdx.app.error("EnemyController", "RandomMapSpawn: Enemy type not found: " + typeId + ". Cannot spawn.");
             return;
         }
-        spawnEnemy(enemyData, false);
+        spawnEnemy(archetype, false);
     }
 
-    private void spawnEnemy(EnemyData enemyDataToSpawn, boolean spawnAtEdge) {
-        Gdx.app.debug("EnemyController", "spawnEnemy called for: " + enemyDataToSpawn.getName() + ", spawnAtEdge: " + spawnAtEdge);
+    private void spawnEnemy(EnemyArchetype archetype, boolean spawnAtEdge) {
+        EnemyData enemyDataToSpawn = archetype.getData();
 
-        ObjectMap<String, Animation<TextureRegion>> enemyAnimations = loadAllAnimationsForEnemy(enemyDataToSpawn);
-        if (enemyAnimations.isEmpty() && enemyDataToSpawn.getAnimations() != null && !enemyDataToSpawn.getAnimations().isEmpty()) {
+        if (archetype.isMissingAnimations()) {
             Gdx.app.error("EnemyController", "CRITICAL: Failed to load ANY animations for " + enemyDataToSpawn.getName() + ". Check paths/loading.");
             return;
         }
 
         float spawnX, spawnY;
-        float screenWidth = Gdx.graphics.getWidth();
-        float screenHeight = Gdx.graphics.getHeight();
-
-        float placementWidth;
-        float placementHeight;
-
-        if (enemyDataToSpawn.getName().equals(BOSS_ENEMY_NAME)) {
-            placementWidth = 160f;
-            placementHeight = 160f;
-        } else {
-            TextureRegion firstFrame = null;
-            if (enemyAnimations.containsKey("show")) firstFrame = enemyAnimations.get("show").getKeyFrame(0);
-            else if (enemyAnimations.containsKey("idle")) firstFrame = enemyAnimations.get("idle").getKeyFrame(0);
-            else if (!enemyAnimations.isEmpty()) firstFrame = enemyAnimations.values().next().getKeyFrame(0);
-            placementWidth = (firstFrame != null) ? firstFrame.getRegionWidth() * Enemy.ENEMY_SCALE_FACTOR : 50 * Enemy.ENEMY_SCALE_FACTOR;
-            placementHeight = (firstFrame != null) ? firstFrame.getRegionHeight() * Enemy.ENEMY_SCALE_FACTOR : 50 * Enemy.ENEMY_SCALE_FACTOR;
-        }
+        float screenWidth = viewportWidth;
+        float screenHeight = viewportHeight;
 
         float padding = 20f;
         float minSpawnDistFromPlayer = 150f;
 
         if (spawnAtEdge) {
-            float cameraX = player.getX();
-            float cameraY = player.getY();
-            int edge = MathUtils.random(0, 3);
-            switch (edge) {
-                case 0: spawnX = MathUtils.random(cameraX - screenWidth/2f, cameraX + screenWidth/2f); spawnY = cameraY + screenHeight/2f + placementHeight; break;
-                case 1: spawnX = MathUtils.random(cameraX - screenWidth/2f, cameraX + screenWidth/2f); spawnY = cameraY - screenHeight/2f - placementHeight; break;
-                case 2: spawnX = cameraX - screenWidth/2f - placementWidth; spawnY = MathUtils.random(cameraY - screenHeight/2f, cameraY + screenHeight/2f); break;
-                case 3: spawnX = cameraX + screenWidth/2f + placementWidth; spawnY = MathUtils.random(cameraY - screenHeight/2f, cameraY + screenHeight/2f); break;
-                default: spawnX = cameraX + screenWidth/2f + placementWidth; spawnY = cameraY; break;
-            }
+            pickEdgeSpawnPoint(archetype, spawnPoint);
+            spawnX = spawnPoint.x;
+            spawnY = spawnPoint.y;
         } else {
-            float angle = MathUtils.random(0, 360f);
-            float distance = minSpawnDistFromPlayer + MathUtils.random(screenWidth * (enemyDataToSpawn.getName().equals(BOSS_ENEMY_NAME) ? 0.25f : 0.1f), screenWidth * (enemyDataToSpawn.getName().equals(BOSS_ENEMY_NAME) ? 0.4f : 0.3f));
+            float angle = randomRange(0, 360f);
+            float distance = minSpawnDistFromPlayer + randomRange(screenWidth * (archetype.isBoss() ? 0.25f : 0.1f), screenWidth * (archetype.isBoss() ? 0.4f : 0.3f));
 
             spawnX = player.getX() + MathUtils.cosDeg(angle) * distance;
             spawnY = player.getY() + MathUtils.sinDeg(angle) * distance;
@@ -489,243 +490,125 @@ public class EnemyController {
 
             spawnX = MathUtils.clamp(spawnX, cameraX - maxSpawnRangeX, cameraX + maxSpawnRangeX);
             spawnY = MathUtils.clamp(spawnY, cameraY - maxSpawnRangeY, cameraY + maxSpawnRangeY);
-=======
-        for (Enemy enemy : activeEnemies) {
-            enemy.draw(batch);
-        }
-        for (Bullet bullet : enemyBullets) {
-            bullet.draw(batch);
         }
-        for (Seed seed : droppedSeeds) {
-            seed.draw(batch);
-        }
-    }
 
-    // NEW: Helper method to spawn a specific enemy by name
-    private void spawnSpecificEnemy(String enemyName) {
-        EnemyData enemyData = assetManager.getEnemyDataByName(enemyName);
-        if (enemyData == null) {
-            Gdx.app.error("EnemyController", "Enemy data not found for: " + enemyName);
-            return;
-        }
-        spawnEnemy(enemyData);
+        Enemy newEnemy = enemyPool.obtain().init(archetype, spawnX, spawnY);
+        addEnemyEntity(newEnemy);
+        if (archetype.isBoss() && Gdx.app.getLogLevel() >= Application.LOG_DEBUG) Gdx.app.debug("EnemyController", "Spawned " + newEnemy.getName() + " at (" + (int) spawnX + ", " + (int) spawnY + ").");
     }
 
-    // Modified spawnEnemy to accept a specific EnemyData, or pick random if null
-    private void spawnEnemy(EnemyData specificEnemyData) {
-        EnemyData enemyDataToSpawn = specificEnemyData;
-        if (enemyDataToSpawn == null) {
-            Array<EnemyData> allEnemyData = assetManager.getAllEnemyData();
-            if (allEnemyData.size == 0) {
-                Gdx.app.error("EnemyController", "No enemy data available to spawn!");
-                return;
-            }
-            enemyDataToSpawn = allEnemyData.random();
-        }
-
-        ObjectMap<String, Animation<TextureRegion>> enemyAnimations = loadAllAnimationsForEnemy(enemyDataToSpawn);
-
-        float spawnX, spawnY;
-        int edge = MathUtils.random(0, 3);
-
-        float screenWidth = Gdx.graphics.getWidth();
-        float screenHeight = Gdx.graphics.getHeight();
-
-        TextureRegion firstFrame = enemyAnimations.containsKey("show") ?
-            enemyAnimations.get("show").getKeyFrame(0) : null;
-        float enemyWidth = (firstFrame != null) ? firstFrame.getRegionWidth() * Enemy.ENEMY_SCALE_FACTOR : 50 * Enemy.ENEMY_SCALE_FACTOR;
-        float enemyHeight = (firstFrame != null) ? firstFrame.getRegionHeight() * Enemy.ENEMY_SCALE_FACTOR : 50 * Enemy.ENEMY_SCALE_FACTOR;
-
-        // Add padding from screen edges
-        float padding = 20f; // Small padding to avoid enemies spawning exactly on edge
-
-        switch (edge) {
-            case 0: // Top edge
-                spawnX = MathUtils.random(padding, screenWidth - enemyWidth - padding);
-                spawnY = screenHeight + enemyHeight / 2; // Spawn slightly off-screen
-                break;
-            case 1: // Bottom edge
-                spawnX = MathUtils.random(padding, screenWidth - enemyWidth - padding);
-                spawnY = -enemyHeight - enemyHeight / 2; // Spawn slightly off-screen
-                break;
-            case 2: // Left edge
-                spawnX = -enemyWidth - enemyWidth / 2; // Spawn slightly off-screen
-                spawnY = MathUtils.random(padding, screenHeight - enemyHeight - padding);
-                break;
-            case 3: // Right edge
-                spawnX = screenWidth + enemyWidth / 2; // Spawn slightly off-screen
-                spawnY = MathUtils.random(padding, screenHeight - enemyHeight - padding);
-                break;
-            default:
-                spawnX = MathUtils.random(padding, screenWidth - enemyWidth - padding); // Default to top if something goes wrong
-                spawnY = screenHeight + enemyHeight / 2;
-                break;
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    // Just outside a random edge of the visible area around the player.
+    private void pickEdgeSpawnPoint(EnemyArchetype archetype, Vector2 out) {
+        float cameraX = player.getX();
+        float cameraY = player.getY();
+        float halfWidth = viewportWidth / 2f;
+        float halfHeight = viewportHeight / 2f;
+        switch (random.nextInt(4)) {
+            case 0: out.set(randomRange(cameraX - halfWidth, cameraX + halfWidth), cameraY + halfHeight + archetype.getDrawHeight()); break;
+            case 1: out.set(randomRange(cameraX - halfWidth, cameraX + halfWidth), cameraY - halfHeight - archetype.getDrawHeight()); break;
+            case 2: out.set(cameraX - halfWidth - archetype.getDrawWidth(), randomRange(cameraY - halfHeight, cameraY + halfHeight)); break;
+            default: out.set(cameraX + halfWidth + archetype.getDrawWidth(), randomRange(cameraY - halfHeight, cameraY + halfHeight)); break;
         }
-
-        Enemy newEnemy = new Enemy(enemyDataToSpawn, enemyAnimations, spawnX, spawnY);
-        activeEnemies.add(newEnemy);
-<<<<<<< HEAD
-        Gdx.app.log("EnemyController", "Spawned " + newEnemy.getName() + " at (" + String.format("%.0f",spawnX) + ", " + String.format("%.0f",spawnY) + "). Type: " + (spawnAtEdge ? "Edge" : "NearPlayer") + ". Active " + newEnemy.getName() + "s: " + countSpecificEnemy(newEnemy.getName()));
     }
 
-    private int countSpecificEnemy(String enemyName) {
-        int count = 0;
-        for (Enemy enemy : activeEnemies) if (enemy.getName().equals(enemyName)) count++;
-        return count;
+    private float randomRange(float start, float end) {
+        return start + random.nextFloat() * (end - start);
     }
 
-    private ObjectMap<String, Animation<TextureRegion>> loadAllAnimationsForEnemy(EnemyData enemyData) {
-        ObjectMap<String, Animation<TextureRegion>> loadedAnimations = new ObjectMap<>();
-        ObjectMap<String, Array<String>> animationPaths = enemyData.getAnimations();
-        if (animationPaths == null || animationPaths.isEmpty()) {
-            Gdx.app.log("EnemyController", "No animation paths defined for: " + enemyData.getName());
-            return loadedAnimations;
-        }
-        for (ObjectMap.Entry<String, Array<String>> entry : animationPaths.entries()) {
-            String animationName = entry.key;
-            Array<String> paths = entry.value;
-            if (paths != null && paths.size > 0) {
-                Array<TextureRegion> framesGdxArray = new Array<>(TextureRegion.class);
-                for (String path : paths) {
-                    Texture texture = assetManager.getTexture(path);
-                    if (texture != null) {
-                        framesGdxArray.add(new TextureRegion(texture));
-                    } else {
-                        Gdx.app.error("EnemyController", "TEXTURE NOT FOUND for enemy ("+enemyData.getName()+") anim '"+animationName+"' frame: [" + path + "]");
-                    }
-                }
-
-                if (framesGdxArray.size > 0) {
-                    Animation.PlayMode playMode = Animation.PlayMode.LOOP;
-                    float frameDuration = 0.1f;
-                    if (animationName.equalsIgnoreCase("spawn") || animationName.equalsIgnoreCase("damaged") || animationName.equalsIgnoreCase("death") || animationName.equalsIgnoreCase("dash")) {
-                        playMode = Animation.PlayMode.NORMAL;
-                        frameDuration = animationName.equalsIgnoreCase("spawn") ? 0.15f : (animationName.equalsIgnoreCase("dash") ? 0.05f : 0.1f) ;
-                    }
-                    Animation<TextureRegion> animation = new Animation<>(frameDuration, framesGdxArray, playMode);
-                    loadedAnimations.put(animationName, animation);
-                } else {
-                    Gdx.app.error("EnemyController", "No frames loaded for anim '"+animationName+"' for enemy: " + enemyData.getName());
-                }
-            }
-        }
-        if (loadedAnimations.isEmpty() && !animationPaths.isEmpty()) Gdx.app.error("EnemyController", "CRITICAL: No animations loaded for " + enemyData.getName() + " despite paths in JSON.");
-=======
-        Gdx.app.log("EnemyController", "Spawned " + newEnemy.getName() + " at (" + (int)spawnX + ", " + (int)spawnY + ")");
+    private int countSpecificEnemy(int typeId) {
+        return typeId >= 0 && typeId < liveCountByType.length ? liveCountByType[typeId] : 0;
     }
 
-    // Original loadAllAnimationsForEnemy method remains the same
-    private ObjectMap<String, Animation<TextureRegion>> loadAllAnimationsForEnemy(EnemyData enemyData) {
-        ObjectMap<String, Animation<TextureRegion>> loadedAnimations = new ObjectMap<>();
-        ObjectMap<String, Array<String>> animationPaths = enemyData.getAnimations();
-
-        if (animationPaths != null) {
-            for (ObjectMap.Entry<String, Array<String>> entry : animationPaths.entries()) {
-                String animationName = entry.key;
-                Array<String> paths = entry.value;
-                if (paths != null && paths.size > 0) {
-                    Array<TextureRegion> frames = new Array<>();
-                    for (String path : paths) {
-                        Texture texture = assetManager.getTexture(path);
-                        if (texture != null) {
-                            frames.add(new TextureRegion(texture));
-                        } else {
-                            Gdx.app.error("EnemyController", "Failed to load texture for enemy animation frame: " + path);
-                        }
-                    }
-                    if (frames.size > 0) {
-                        Animation.PlayMode playMode = Animation.PlayMode.LOOP;
-                        float frameDuration = 0.1f;
-
-                        if (animationName.equals("spawn")) {
-                            playMode = Animation.PlayMode.NORMAL;
-                            frameDuration = 0.15f;
-                        } else if (animationName.equals("damaged")) { // Example for tree damaged animation
-                            playMode = Animation.PlayMode.NORMAL;
-                            frameDuration = 0.1f;
-                        }
-
-                        loadedAnimations.put(animationName, new Animation<>(frameDuration, frames, playMode));
-                    }
-                }
-            }
+    // Archetypes built lazily after startup get fresh ids, so grow the counters on demand.
+    private void adjustLiveCount(int typeId, int amount) {
+        if (typeId >= liveCountByType.length) {
+            int[] grown = new int[archetypes.size()];
+            System.arraycopy(liveCountByType, 0, grown, 0, liveCountByType.length);
+            liveCountByType = grown;
         }
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
-        return loadedAnimations;
-    }
-
-    private void shootEnemyBullet(Enemy shooter, float targetX, float targetY) {
-<<<<<<< HEAD
-        Gdx.app.log("EnemyCtrl_EyeBat", "shootEnemyBullet called for " + shooter.getName()); // Added log
-        Vector2 enemyCenter = new Vector2(shooter.getX() + shooter.getBounds().width / 2, shooter.getY() + shooter.getBounds().height / 2);
-        Vector2 directionToPlayer = new Vector2(targetX - enemyCenter.x, targetY - enemyCenter.y).nor();
-        float offsetDistance = shooter.getBounds().width / 2 + 10;
-        float bulletStartX = enemyCenter.x + directionToPlayer.x * offsetDistance - ENEMY_BULLET_DRAW_WIDTH / 2;
-        float bulletStartY = enemyCenter.y + directionToPlayer.y * offsetDistance - ENEMY_BULLET_DRAW_HEIGHT / 2;
-        int bulletSpeed = 300;
-        int bulletDamage = shooter.getEnemyData().getDamage();
-        if (enemyBulletTextureRegion == null) {Gdx.app.error("EnemyController", "Cannot shoot, enemyBulletTextureRegion is null"); return;}
-        enemyBullets.add(new Bullet(bulletStartX, bulletStartY, bulletSpeed, directionToPlayer.x, directionToPlayer.y, enemyBulletTextureRegion, ENEMY_BULLET_DRAW_WIDTH, ENEMY_BULLET_DRAW_HEIGHT, bulletDamage));
-        Gdx.app.log("EnemyCtrl_EyeBat", shooter.getName() + " ADDED A BULLET to enemyBullets array. Size: " + enemyBullets.size); // Added log
-    }
-
-=======
-        Vector2 enemyCenter = new Vector2(shooter.getX() + shooter.getBounds().width / 2,
-            shooter.getY() + shooter.getBounds().height / 2);
-        Vector2 directionToPlayer = new Vector2(targetX - enemyCenter.x, targetY - enemyCenter.y).nor();
-
-        float offsetDistance = shooter.getBounds().width / 2 + 10;
-        float bulletStartX = enemyCenter.x + directionToPlayer.x * offsetDistance - ENEMY_BULLET_DRAW_WIDTH / 2;
-        float bulletStartY = enemyCenter.y + directionToPlayer.y * offsetDistance - ENEMY_BULLET_DRAW_HEIGHT / 2;
-
-        int bulletSpeed = 300;
-        int bulletDamage = shooter.getEnemyData().getDamage();
-
-        enemyBullets.add(new Bullet(bulletStartX, bulletStartY, bulletSpeed,
-            directionToPlayer.x, directionToPlayer.y,
-            enemyBulletTextureRegion, ENEMY_BULLET_DRAW_WIDTH, ENEMY_BULLET_DRAW_HEIGHT,
-            bulletDamage));
-        Gdx.app.log("EnemyController", shooter.getName() + " shot a bullet!");
+        liveCountByType[typeId] += amount;
     }
 
-
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
-    public void checkBulletCollisions(Array<Bullet> bullets) {
-        for (int i = bullets.size - 1; i >= 0; i--) {
-            Bullet playerBullet = bullets.get(i);
-            Rectangle bulletBounds = playerBullet.getBounds();
-<<<<<<< HEAD
+    public void checkBulletCollisions(BulletStore bullets) {
+        if (useSpatialHash) {
+            checkBulletCollisionsWithGrid(bullets);
+            return;
+        }
+        lastBulletPairTests = 0;
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            Rectangle bulletBounds = bullets.getBounds(i, overlapScratch);
             for (int j = activeEnemies.size - 1; j >= 0; j--) {
                 Enemy enemy = activeEnemies.get(j);
+                lastBulletPairTests++;
                 if (enemy.isAlive() && !enemy.isDying() && bulletBounds.overlaps(enemy.getBounds())) {
-                    enemy.takeDamage(playerBullet.getDamage());
+                    enemy.takeDamage(bullets.getDamage(i));
                     bullets.removeIndex(i);
                     break;
-=======
+                }
+            }
+        }
+    }
 
-            for (int j = activeEnemies.size - 1; j >= 0; j--) {
+    // Same result as the brute-force pass: each bullet hits the highest-index overlapping enemy.
+    // Reuses the index built at the end of update(); enemies don't move between the two calls.
+    private void checkBulletCollisionsWithGrid(BulletStore bullets) {
+        lastBulletPairTests = 0;
+        if (bullets.isEmpty() || activeEnemies.size == 0) return;
+        if (!collisionService.isValid()) collisionService.rebuild(activeEnemies, enemyBullets, droppedSeeds);
+
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            bullets.getBounds(i, overlapScratch);
+            collisionService.queryEnemies(overlapScratch.x, overlapScratch.y, overlapScratch.width, overlapScratch.height, broadphaseCandidates);
+
+            int hitIndex = -1;
+            for (int k = 0; k < broadphaseCandidates.size; k++) {
+                int j = broadphaseCandidates.get(k);
+                if (j <= hitIndex) continue;
+                lastBulletPairTests++;
                 Enemy enemy = activeEnemies.get(j);
-                // Don't damage if enemy is already dying or dead
-                if (enemy.isAlive() && bulletBounds.overlaps(enemy.getBounds())) {
-                    boolean enemyDied = enemy.takeDamage(playerBullet.getDamage());
-                    bullets.removeIndex(i); // Remove player bullet on hit
-                    break; // Only hit one enemy per bullet
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
-                }
+                if (enemy.isAlive() && !enemy.isDying() && overlapScratch.overlaps(enemy.getBounds())) hitIndex = j;
+            }
+            if (hitIndex >= 0) {
+                activeEnemies.get(hitIndex).takeDamage(bullets.getDamage(i));
+                bullets.removeIndex(i);
             }
         }
     }
 
-<<<<<<< HEAD
+    public boolean isUsingSpatialHash() { return useSpatialHash; }
+    public void setUseSpatialHash(boolean useSpatialHash) {
+        this.useSpatialHash = useSpatialHash;
+        Gdx.app.log("EnemyController", "Bullet broadphase: " + (useSpatialHash ? "spatial hash" : "brute force"));
+    }
+    public int getLastBulletPairTests() { return lastBulletPairTests; }
+
+    public void setAiBudgetMicros(int budgetMicros) { aiSystem.setBudgetMicros(budgetMicros); }
+    public AiSystem getAiSystem() { return aiSystem; }
+    /** Movers in the given {@code Enemy.LOD_*} tier as of the last tick. */
+    public int getLodTierCount(int tier) { return movementSystem.getTierCount(tier); }
+
+    public WaveDirector getWaveDirector() { return waveDirector; }
+    public int getSpawnQueueDepth() { return spawnQueue.size(); }
+    public int getSpawnsPerTick() { return spawnsPerTick; }
+    public void setSpawnsPerTick(int spawnsPerTick) { this.spawnsPerTick = Math.max(1, spawnsPerTick); }
+    /** Simulation seconds between a spawn coming due and the enemy being placed, averaged over the run. */
+    public float getAverageSpawnLatency() { return spawnsDrained > 0 ? totalSpawnLatency / spawnsDrained : 0f; }
+    public float getPeakSpawnLatency() { return peakSpawnLatency; }
+    public long getLastDrainNanos() { return lastDrainNanos; }
+
+    public boolean isUsingParallelMovement() { return movementSystem.isParallel(); }
+    public void setUseParallelMovement(boolean useParallelMovement) {
+        movementSystem.setParallel(useParallelMovement);
+        Gdx.app.log("EnemyController", "Enemy movement: " + (useParallelMovement ? "parallel" : "serial"));
+    }
+
     public void spawnBossNow() {
-        if (!bossHasSpawned) {
+        if (countSpecificEnemy(bossTypeId) == 0) {
             Gdx.app.log("CHEAT", "Spawning Boss via cheat code.");
-            spawnSpecificEnemyAtRandomPosition(BOSS_ENEMY_NAME);
-            bossHasSpawned = true;
+            spawnSpecificEnemyAtRandomPosition(bossTypeId);
         } else {
-            Gdx.app.log("CHEAT", "Boss already spawned. Spawning another one via cheat.");
-            spawnSpecificEnemyAtRandomPosition(BOSS_ENEMY_NAME);
+            Gdx.app.log("CHEAT", "Boss already alive. Spawning another one via cheat.");
+            spawnSpecificEnemyAtRandomPosition(bossTypeId);
         }
     }
 
@@ -733,7 +616,7 @@ public class EnemyController {
         int killedCount = 0;
         for (int i = activeEnemies.size - 1; i >= 0 && killedCount < count; i--) {
             Enemy enemy = activeEnemies.get(i);
-            if (enemy.isAlive() && !enemy.isDying() && !enemy.getName().equals(BOSS_ENEMY_NAME)) {
+            if (enemy.isAlive() && !enemy.isDying() && !enemy.getArchetype().isBoss()) {
                 Gdx.app.log("CHEAT", "Killing enemy: " + enemy.getName());
                 enemy.takeDamage(enemy.getEnemyData() != null ? enemy.getEnemyData().getHp() * 2 : 10000);
                 killedCount++;
@@ -743,29 +626,13 @@ public class EnemyController {
     }
 
     public Array<Enemy> getActiveEnemies() { return activeEnemies; }
-    public Array<Bullet> getEnemyBullets() { return enemyBullets; }
+    public int getLiveCount(int typeId) { return countSpecificEnemy(typeId); }
+    public EnemyArchetypeRegistry getArchetypes() { return archetypes; }
+    public BulletStore getEnemyBullets() { return enemyBullets; }
     public Array<Seed> getDroppedSeeds() { return droppedSeeds; }
-    public int getEnemiesKilled() { return enemiesKilled; }
-=======
-    public Array<Enemy> getActiveEnemies() {
-        return activeEnemies;
-    }
-
-    public Array<Bullet> getEnemyBullets() {
-        return enemyBullets;
-    }
-
-    public Array<Seed> getDroppedSeeds() {
-        return droppedSeeds;
-    }
-
-    public int getEnemiesKilled() { // NEW: Getter for kills
-        return enemiesKilled;
-    }
-
-    // You might want to pass player's stateTime to enemy.update for more accurate bounds
-    private float stateTime = 0f; // Add this and ensure it's updated in render/update from GameView
-    // For now, I'll use the '0' for simplicity as in your original code
-    // If you plan more complex player animations affecting bounds, you'll need to pass this
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    public int getEnemiesKilled() { return deathSystem.getEnemiesKilled(); }
+    public PooledEngine getEngine() { return engine; }
+    public FlowField getFlowField() { return flowField; }
+    public CountingPool<Enemy> getEnemyPool() { return enemyPool; }
+    public CountingPool<Seed> getSeedPool() { return seedPool; }
 }
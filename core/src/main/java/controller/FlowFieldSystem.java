@@ -0,0 +1,42 @@
+package controller;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import model.Enemy;
+import model.EnemyComponent;
+import model.Families;
+import model.FlowField;
+import model.Player;
+
+/** Keeps the flow field centred on the player, with every living static enemy marked as an obstacle. */
+public class FlowFieldSystem extends EntitySystem {
+    private final ComponentMapper<EnemyComponent> enemies = ComponentMapper.getFor(EnemyComponent.class);
+    private final Player player;
+    private final FlowField flowField;
+    private ImmutableArray<Entity> obstacles;
+
+    public FlowFieldSystem(int priority, Player player, FlowField flowField) {
+        super(priority);
+        this.player = player;
+        this.flowField = flowField;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        obstacles = engine.getEntitiesFor(Families.OBSTACLES);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        flowField.beginObstacles();
+        for (int i = 0; i < obstacles.size(); i++) {
+            Enemy enemy = enemies.get(obstacles.get(i)).enemy;
+            if (!enemy.isAlive() || enemy.isDying()) continue;
+            flowField.addObstacle(enemy.getX(), enemy.getY(), enemy.getArchetype().getDrawWidth(), enemy.getArchetype().getDrawHeight());
+        }
+        flowField.update(player.getX(), player.getY());
+    }
+}
@@ -0,0 +1,242 @@
+package controller;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import model.Ability;
+import model.BulletStore;
+import model.GameAssetManager;
+import model.GameSettings;
+import model.Gun;
+import model.Player;
+import model.TickInput;
+
+/**
+ * Game rules for one run: player movement, gun, enemies, spawning, collisions, XP and scoring.
+ * Nothing here touches GL or {@code Gdx.graphics}; the caller supplies the viewport size and drives
+ * {@link #step(float)} at a fixed rate, so the same world runs inside {@code GameView} or headless.
+ * Every random choice that affects the run draws from one generator seeded per run, and all player
+ * actions arrive through {@link #applyInput(TickInput)}, so the same seed and input stream replay a run exactly.
+ */
+public class GameWorld {
+    public static final float BULLET_DRAW_WIDTH = 20f;
+    public static final float BULLET_DRAW_HEIGHT = 20f;
+    private static final float BULLET_SPEED = 500f;
+    private static final float BULLET_LIFETIME = 4f;
+    private static final float BULLET_CULL_MARGIN = 200f;
+    private static final float BULLET_SPREAD_DEGREES = 5f;
+    private static final int ABILITY_OFFER_COUNT = 3;
+    private static final Ability[] ABILITIES = Ability.values();
+
+    private final Player player;
+    private final Gun gun;
+    private final GameSettings gameSettings;
+    private final int gameDurationMinutes;
+    private final EnemyController enemyController;
+    private final BulletStore bullets;
+    private final long seed;
+    private final RandomXS128 random;
+
+    private final Vector2 playerPosition = new Vector2();
+    private final Vector2 previousPlayerPosition = new Vector2();
+    private final Vector2 shotDirection = new Vector2();
+    private final float muzzleOffset;
+    private final Array<Ability> abilityOffers = new Array<>(ABILITY_OFFER_COUNT);
+    private final Ability[] abilityShuffle = new Ability[ABILITIES.length];
+
+    private float viewportWidth;
+    private float viewportHeight;
+    private float shootTimer;
+    private float elapsedSeconds;
+    private boolean moveUp, moveDown, moveLeft, moveRight;
+    private boolean abilityOffersPending;
+
+    public GameWorld(GameAssetManager assetManager, Player player, Gun gun, int gameDurationMinutes,
+                     GameSettings gameSettings, float viewportWidth, float viewportHeight, long seed) {
+        this.player = player;
+        this.gun = gun;
+        this.gameSettings = gameSettings;
+        this.gameDurationMinutes = gameDurationMinutes;
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.bullets = new BulletStore(128, BULLET_DRAW_WIDTH, BULLET_DRAW_HEIGHT);
+        this.seed = seed;
+        this.random = new RandomXS128(seed);
+        Gdx.app.log("GameWorld", "Run seed: " + seed);
+
+        player.setX(playerPosition.x); player.setY(playerPosition.y);
+        this.muzzleOffset = computeMuzzleOffset(player);
+        this.enemyController = new EnemyController(assetManager, player, gameDurationMinutes, viewportWidth, viewportHeight, random);
+        if (gameSettings != null) enemyController.setAiBudgetMicros(gameSettings.getAiBudgetMicros());
+    }
+
+    // Bullets leave from just outside the player's idle sprite; measured once so shooting never reads textures.
+    private static float computeMuzzleOffset(Player player) {
+        Animation<TextureRegion> idle = player.getIdleAnimation();
+        TextureRegion frame = idle != null ? idle.getKeyFrame(0, true) : null;
+        float radius = frame != null ? (frame.getRegionWidth() * Player.PLAYER_SCALE_FACTOR / 2) * 0.7f : 0f;
+        return radius + 5;
+    }
+
+    /** Advances the run by exactly one fixed step; nothing in here may depend on the frame rate. */
+    public void step(float step) {
+        previousPlayerPosition.set(playerPosition);
+        player.update(step);
+        shootTimer += step;
+        elapsedSeconds += step;
+        if (gun != null) {
+            gun.updateBuffs(step);
+            gun.updateReload(step);
+            if (gameSettings != null && gameSettings.isAutoReloadEnabled() && gun.getCurrentAmmo() == 0 && !gun.isReloading()) {
+                gun.startReload();
+            }
+        }
+        float playerSpeed = player.getSpeed() * step;
+        if (moveUp) playerPosition.y += playerSpeed;
+        if (moveDown) playerPosition.y -= playerSpeed;
+        if (moveLeft) playerPosition.x -= playerSpeed;
+        if (moveRight) playerPosition.x += playerSpeed;
+        player.setX(playerPosition.x); player.setY(playerPosition.y);
+        enemyController.update(step, elapsedSeconds);
+        enemyController.checkBulletCollisions(bullets);
+
+        float cullHalfWidth = viewportWidth / 2f + BULLET_CULL_MARGIN;
+        float cullHalfHeight = viewportHeight / 2f + BULLET_CULL_MARGIN;
+        bullets.update(step, playerPosition.x - cullHalfWidth, playerPosition.y - cullHalfHeight,
+            playerPosition.x + cullHalfWidth, playerPosition.y + cullHalfHeight);
+
+        if (player.hasJustLeveledUp() && !abilityOffersPending) {
+            rollAbilityOffers(abilityOffers, ABILITY_OFFER_COUNT);
+            abilityOffersPending = true;
+        }
+    }
+
+    /** Applies one tick of player input; call right before {@link #step(float)} with the input for that tick. */
+    public void applyInput(TickInput input) {
+        setMovement(input.isMoveUp(), input.isMoveDown(), input.isMoveLeft(), input.isMoveRight());
+        if (input.hasViewportChange()) setViewportSize(input.getViewportWidth(), input.getViewportHeight());
+        if (input.getCheat() != 0) applyCheat(input.getCheat());
+        if (input.getAbility() != null && abilityOffersPending) {
+            applyAbility(input.getAbility());
+            abilityOffersPending = false;
+            player.resetLevelUpFlag();
+        }
+        if (input.isReloading()) startReload();
+        if (input.isShooting()) shootAt(input.getAimX(), input.getAimY());
+    }
+
+    private void applyCheat(int cheat) {
+        switch (cheat) {
+            case TickInput.CHEAT_ADVANCE_TIME:
+                advanceTime(60f);
+                Gdx.app.log("CHEAT", "Time advanced by 1 minute. New elapsed: " + elapsedSeconds);
+                break;
+            case TickInput.CHEAT_LEVEL_UP:
+                player.addXp(player.getXpToNextLevel() - player.getXp() + 1);
+                Gdx.app.log("CHEAT", "Player leveled up. New level: " + player.getLevel());
+                break;
+            case TickInput.CHEAT_ADD_HP:
+                player.increaseMaxHealth(1);
+                Gdx.app.log("CHEAT", "Player HP increased. Current: " + player.getCurrentHp() + "/" + player.getMaxHp());
+                break;
+            case TickInput.CHEAT_SPAWN_BOSS: enemyController.spawnBossNow(); break;
+            case TickInput.CHEAT_KILL_ENEMIES: enemyController.killRandomEnemies(10); break;
+            case TickInput.CHEAT_TOGGLE_SPATIAL_HASH: enemyController.setUseSpatialHash(!enemyController.isUsingSpatialHash()); break;
+            default: Gdx.app.error("GameWorld", "Unknown cheat code " + cheat);
+        }
+    }
+
+    public void setMovement(boolean up, boolean down, boolean left, boolean right) {
+        moveUp = up; moveDown = down; moveLeft = left; moveRight = right;
+    }
+
+    /** Fires the gun at a world-space target if it is loaded and off cooldown. Returns whether a shot was fired. */
+    public boolean shootAt(float targetWorldX, float targetWorldY) {
+        if (gun == null || gun.getGunData() == null) return false;
+        if (gun.isReloading() || gun.getCurrentAmmo() <= 0 || shootTimer < gun.getGunData().getFire_rate()) return false;
+        gun.shoot(); shootTimer = 0f;
+        int projectiles = gun.getCurrentProjectiles();
+        float totalSpread = BULLET_SPREAD_DEGREES * (projectiles - 1);
+        for (int i = 0; i < projectiles; i++) {
+            shotDirection.set(targetWorldX - playerPosition.x, targetWorldY - playerPosition.y);
+            if (projectiles > 1) shotDirection.rotateDeg(-totalSpread / 2f + i * BULLET_SPREAD_DEGREES);
+            shotDirection.nor();
+            float bulletStartX = playerPosition.x + shotDirection.x * muzzleOffset - BULLET_DRAW_WIDTH / 2;
+            float bulletStartY = playerPosition.y + shotDirection.y * muzzleOffset - BULLET_DRAW_HEIGHT / 2;
+            bullets.add(bulletStartX, bulletStartY, BULLET_SPEED, shotDirection.x, shotDirection.y, gun.getCurrentDamage(), BULLET_LIFETIME);
+        }
+        return true;
+    }
+
+    /** Fills {@code out} with up to {@code count} distinct abilities to offer on level-up. */
+    public void rollAbilityOffers(Array<Ability> out, int count) {
+        Ability[] all = abilityShuffle;
+        System.arraycopy(ABILITIES, 0, all, 0, ABILITIES.length);
+        for (int i = all.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Ability swap = all[i]; all[i] = all[j]; all[j] = swap;
+        }
+        out.clear();
+        for (int i = 0; i < Math.min(count, all.length); i++) out.add(all[i]);
+    }
+
+    public void startReload() {
+        if (gun != null && !gun.isReloading()) gun.startReload();
+    }
+
+    public void applyAbility(Ability ability) {
+        if (gun == null) return;
+        switch (ability) {
+            case VITALITY: player.increaseMaxHealth(1); break;
+            case DAMAGER: gun.applyDamageBuff(0.25f, 10f); break;
+            case PROCREASE: gun.increaseProjectiles(1); break;
+            case AMOCREASE: gun.increaseMaxAmmo(5); break;
+            case SPEEDY: player.applySpeedBuff(2f, 10f); break;
+        }
+    }
+
+    public void advanceTime(float seconds) {
+        elapsedSeconds += seconds;
+    }
+
+    public void setViewportSize(float width, float height) {
+        this.viewportWidth = width;
+        this.viewportHeight = height;
+        enemyController.setViewportSize(width, height);
+    }
+
+    /** True from the step that levelled the player up until an offered ability is chosen through the input. */
+    public boolean hasPendingAbilityOffers() { return abilityOffersPending; }
+    public Array<Ability> getAbilityOffers() { return abilityOffers; }
+
+    public boolean isTimeUp() { return gameDurationMinutes > 0 && elapsedSeconds >= gameDurationMinutes * 60; }
+    public boolean isOver() { return !player.isAlive() || isTimeUp(); }
+    public int getKills() { return enemyController.getEnemiesKilled(); }
+
+    /** Score for the run as it stands, using the same formula that is added to the user's total. */
+    public int getSessionScore() {
+        int kills = getKills();
+        return (int)(elapsedSeconds * kills * 0.1f) + kills * 10;
+    }
+
+    public void logStats() {
+        enemyController.logPoolStats();
+        Gdx.app.log("GameWorld", "Player bullets: capacity=" + bullets.getCapacity() + ", grows=" + bullets.getGrowCount());
+    }
+
+    public Player getPlayer() { return player; }
+    public Gun getGun() { return gun; }
+    public EnemyController getEnemyController() { return enemyController; }
+    public BulletStore getBullets() { return bullets; }
+    public Vector2 getPlayerPosition() { return playerPosition; }
+    public Vector2 getPreviousPlayerPosition() { return previousPlayerPosition; }
+    public float getElapsedSeconds() { return elapsedSeconds; }
+    public long getSeed() { return seed; }
+    public RandomXS128 getRandom() { return random; }
+    public int getGameDurationMinutes() { return gameDurationMinutes; }
+    public float getViewportWidth() { return viewportWidth; }
+    public float getViewportHeight() { return viewportHeight; }
+}
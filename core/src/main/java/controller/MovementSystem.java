@@ -0,0 +1,157 @@
+package controller;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import model.Enemy;
+import model.EnemyComponent;
+import model.Families;
+import model.Player;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Advances every moving enemy along the direction {@link AiSystem} last picked for it, along with its
+ * animation and attack timers. Integrating an enemy only writes its own fields, so large hordes are split
+ * into chunks and run on the common fork-join pool. Animation switches (a dash or spawn animation ending)
+ * are only recorded there and applied on the game thread after the join, in entity order. Damage, shooting
+ * and deaths happen in the systems that run after this one on the game thread, so the result is identical
+ * to the serial pass.
+ * <p>
+ * Each enemy is also given a level of detail from its distance to the visible area around the player:
+ * on-screen enemies get the full update, off-screen ones only integrate every few ticks and skip animation.
+ */
+public class MovementSystem extends EntitySystem {
+    private static final int PARALLEL_THRESHOLD = 256;
+    private static final int MIN_CHUNK_SIZE = 64;
+
+    // Wide enough to cover interpolation and the largest sprites, so nothing visible is ever demoted.
+    private static final float FULL_DETAIL_MARGIN = 160f;
+    private static final int NEAR_TIER_INTERVAL = 2;
+    private static final int FAR_TIER_INTERVAL = 6;
+
+    private final ComponentMapper<EnemyComponent> enemies = ComponentMapper.getFor(EnemyComponent.class);
+    private final Player player;
+    private final Array<ChunkTask> chunks = new Array<>(false, 8);
+    private final IntArray animationChanges = new IntArray(false, 64);
+    private final int[] tierCounts = new int[Enemy.LOD_TIER_COUNT];
+    private ImmutableArray<Entity> movers;
+    private boolean parallel = true;
+    private float viewHalfWidth;
+    private float viewHalfHeight;
+    private int tick;
+
+    public MovementSystem(int priority, Player player, float viewportWidth, float viewportHeight) {
+        super(priority);
+        this.player = player;
+        setViewportSize(viewportWidth, viewportHeight);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        movers = engine.getEntitiesFor(Families.MOVERS);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        tick++;
+        Arrays.fill(tierCounts, 0);
+        ImmutableArray<Entity> entities = movers;
+        float playerX = player.getX();
+        float playerY = player.getY();
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        if (!parallel || entities.size() < PARALLEL_THRESHOLD || parallelism < 2) {
+            animationChanges.clear();
+            for (int i = 0; i < entities.size(); i++) tierCounts[step(entities, i, deltaTime, playerX, playerY, animationChanges)]++;
+            applyAnimationChanges(entities, animationChanges);
+            return;
+        }
+
+        int chunkCount = Math.min(parallelism, (entities.size() + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE);
+        int chunkSize = (entities.size() + chunkCount - 1) / chunkCount;
+        while (chunks.size < chunkCount) chunks.add(new ChunkTask());
+        for (int i = 0; i < chunkCount; i++) {
+            ChunkTask chunk = chunks.get(i);
+            chunk.reinitialize();
+            chunk.set(entities, i * chunkSize, Math.min(entities.size(), (i + 1) * chunkSize), deltaTime, playerX, playerY);
+        }
+        for (int i = 1; i < chunkCount; i++) chunks.get(i).fork();
+        chunks.get(0).invoke();
+        for (int i = 1; i < chunkCount; i++) chunks.get(i).join();
+        for (int i = 0; i < chunkCount; i++) {
+            ChunkTask chunk = chunks.get(i);
+            for (int tier = 0; tier < tierCounts.length; tier++) tierCounts[tier] += chunk.tierCounts[tier];
+            applyAnimationChanges(entities, chunk.animationChanges);
+        }
+    }
+
+    // Reduced tiers integrate on staggered ticks; the entity index spreads them so they don't all land together.
+    // Indices of enemies whose animation has to change go to {@code animationChanges}, owned by the calling thread.
+    private int step(ImmutableArray<Entity> entities, int index, float deltaTime, float playerX, float playerY, IntArray animationChanges) {
+        Enemy enemy = enemies.get(entities.get(index)).enemy;
+        int tier = lodTier(enemy, playerX, playerY);
+        enemy.setLodTier(tier);
+        if (tier == Enemy.LOD_FULL) {
+            if (enemy.integrate(deltaTime)) animationChanges.add(index);
+        } else enemy.updateReduced(deltaTime, (tick + index) % (tier == Enemy.LOD_NEAR ? NEAR_TIER_INTERVAL : FAR_TIER_INTERVAL) == 0);
+        return tier;
+    }
+
+    private void applyAnimationChanges(ImmutableArray<Entity> entities, IntArray indices) {
+        for (int i = 0; i < indices.size; i++) enemies.get(entities.get(indices.get(i))).enemy.showDefaultAnimation();
+    }
+
+    private int lodTier(Enemy enemy, float playerX, float playerY) {
+        if (enemy.isDashing() || enemy.getArchetype().isBoss()) return Enemy.LOD_FULL;
+        float halfWidth = enemy.getArchetype().getDrawWidth() / 2f;
+        float halfHeight = enemy.getArchetype().getDrawHeight() / 2f;
+        float outsideX = Math.abs(enemy.getX() + halfWidth - playerX) - halfWidth - viewHalfWidth;
+        float outsideY = Math.abs(enemy.getY() + halfHeight - playerY) - halfHeight - viewHalfHeight;
+        float outside = Math.max(outsideX, outsideY);
+        if (outside <= FULL_DETAIL_MARGIN) return Enemy.LOD_FULL;
+        if (outside <= viewHalfWidth * 2f) return Enemy.LOD_NEAR;
+        return Enemy.LOD_FAR;
+    }
+
+    public void setViewportSize(float width, float height) {
+        this.viewHalfWidth = width / 2f;
+        this.viewHalfHeight = height / 2f;
+    }
+
+    /** Number of movers in the given {@code Enemy.LOD_*} tier after the last update. */
+    public int getTierCount(int tier) { return tierCounts[tier]; }
+    public boolean isParallel() { return parallel; }
+    public void setParallel(boolean parallel) { this.parallel = parallel; }
+
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] tierCounts = new int[Enemy.LOD_TIER_COUNT];
+        private final IntArray animationChanges = new IntArray(false, 64);
+        private ImmutableArray<Entity> entities;
+        private int start, end;
+        private float deltaTime, playerX, playerY;
+
+        void set(ImmutableArray<Entity> entities, int start, int end, float deltaTime, float playerX, float playerY) {
+            this.entities = entities;
+            this.start = start;
+            this.end = end;
+            this.deltaTime = deltaTime;
+            this.playerX = playerX;
+            this.playerY = playerY;
+        }
+
+        @Override
+        protected void compute() {
+            Arrays.fill(tierCounts, 0);
+            animationChanges.clear();
+            for (int i = start; i < end; i++) tierCounts[step(entities, i, deltaTime, playerX, playerY, animationChanges)]++;
+        }
+    }
+}
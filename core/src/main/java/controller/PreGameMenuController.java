@@ -1,8 +1,4 @@
-<<<<<<< HEAD
 
-=======
-// controller/PreGameMenuController.java
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 package controller;
 
 import com.badlogic.gdx.Gdx;
@@ -18,10 +14,7 @@ import com.badlogic.gdx.utils.ObjectMap;
 import graphic.source.Main;
 import model.*;
 import view.GameView;
-<<<<<<< HEAD
 import view.MainMenuView;
-=======
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 import view.PreGameMenuView;
 
 public class PreGameMenuController {
@@ -66,15 +59,9 @@ public class PreGameMenuController {
                     pregame.setSelectedGun(null);
                     return;
                 }
-<<<<<<< HEAD
 
                 ObjectMap<String, Animation<TextureRegion>> loadedGunAnimations = loadAllAnimations(gunAnimationPaths, 0.1f);
                 Gun gun = new Gun(gunData, loadedGunAnimations);
-=======
-                // This line now correctly loads all animations, including 'reload'
-                ObjectMap<String, Animation<TextureRegion>> loadedGunAnimations = loadAllAnimations(gunAnimationPaths, 0.1f);
-                Gun gun = new Gun(gunData, loadedGunAnimations); // Gun now initialized with max ammo
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
                 pregame.setSelectedGun(gun);
                 Gdx.app.log("PreGameMenuController", "Gun initialized with default selected gun: " + gunData.getName());
             } else {
@@ -176,20 +163,17 @@ public class PreGameMenuController {
         view.getBackButton().addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-<<<<<<< HEAD
                 Main.getMain().setScreen(new MainMenuView(new MainMenuController(), GameAssetManager.getGameAssetManager().getSkin()));
-=======
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
             }
         });
     }
 
-    private Animation<TextureRegion> loadAnimation(Array<String> paths, float frameDuration) {
+    public static Animation<TextureRegion> loadAnimation(Array<String> paths, float frameDuration) {
         Array<TextureRegion> frames = new Array<>();
         for (String path : paths) {
-            Texture texture = GameAssetManager.getGameAssetManager().getTexture(path);
-            if (texture != null) {
-                frames.add(new TextureRegion(texture));
+            TextureRegion frame = GameAssetManager.getGameAssetManager().getTextureRegion(path);
+            if (frame != null) {
+                frames.add(frame);
             } else {
                 Gdx.app.error("AnimationLoad", "Failed to load texture for animation frame: " + path);
             }
@@ -203,7 +187,7 @@ public class PreGameMenuController {
         return new Animation<>(frameDuration, frames, Animation.PlayMode.LOOP);
     }
 
-    private ObjectMap<String, Animation<TextureRegion>> loadAllAnimations(ObjectMap<String, Array<String>> animationPaths, float defaultFrameDuration) {
+    public static ObjectMap<String, Animation<TextureRegion>> loadAllAnimations(ObjectMap<String, Array<String>> animationPaths, float defaultFrameDuration) {
         ObjectMap<String, Animation<TextureRegion>> loadedAnimations = new ObjectMap<>();
         if (animationPaths != null) {
             for (ObjectMap.Entry<String, Array<String>> entry : animationPaths.entries()) {
@@ -211,11 +195,7 @@ public class PreGameMenuController {
                 Array<String> paths = entry.value;
                 if (paths != null && paths.size > 0) {
                     float frameDuration = defaultFrameDuration;
-<<<<<<< HEAD
                     Animation.PlayMode playMode = Animation.PlayMode.LOOP;
-=======
-                    Animation.PlayMode playMode = Animation.PlayMode.LOOP; // Default to loop
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 
                     if (animationName.equals("still")) {
                         frameDuration = 0.5f; // A longer duration for a 'still' frame
@@ -234,12 +214,12 @@ public class PreGameMenuController {
         return loadedAnimations;
     }
 
-    private Array<TextureRegion> loadAnimationFrames(Array<String> paths) {
+    private static Array<TextureRegion> loadAnimationFrames(Array<String> paths) {
         Array<TextureRegion> frames = new Array<>();
         for (String path : paths) {
-            Texture texture = GameAssetManager.getGameAssetManager().getTexture(path);
-            if (texture != null) {
-                frames.add(new TextureRegion(texture));
+            TextureRegion frame = GameAssetManager.getGameAssetManager().getTextureRegion(path);
+            if (frame != null) {
+                frames.add(frame);
             } else {
                 Gdx.app.error("AnimationLoad", "Failed to load texture for frame: " + path);
             }
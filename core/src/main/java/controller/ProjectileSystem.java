@@ -0,0 +1,37 @@
+package controller;
+
+import com.badlogic.ashley.core.EntitySystem;
+import model.BulletStore;
+import model.Player;
+
+/**
+ * Moves enemy bullets. They stay in their {@link BulletStore} rather than becoming entities,
+ * so this system steps the whole store in one pass instead of iterating a family.
+ */
+public class ProjectileSystem extends EntitySystem {
+    private static final float ENEMY_BULLET_CULL_MARGIN = 200f;
+
+    private final Player player;
+    private final BulletStore enemyBullets;
+    private float cullHalfWidth;
+    private float cullHalfHeight;
+
+    public ProjectileSystem(int priority, Player player, BulletStore enemyBullets, float viewportWidth, float viewportHeight) {
+        super(priority);
+        this.player = player;
+        this.enemyBullets = enemyBullets;
+        setViewportSize(viewportWidth, viewportHeight);
+    }
+
+    public void setViewportSize(float viewportWidth, float viewportHeight) {
+        cullHalfWidth = viewportWidth / 2f + ENEMY_BULLET_CULL_MARGIN;
+        cullHalfHeight = viewportHeight / 2f + ENEMY_BULLET_CULL_MARGIN;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        // Enemy bullets live in world space, so cull them around the player rather than the screen origin
+        enemyBullets.update(deltaTime, player.getX() - cullHalfWidth, player.getY() - cullHalfHeight,
+            player.getX() + cullHalfWidth, player.getY() + cullHalfHeight);
+    }
+}
@@ -0,0 +1,45 @@
+package controller;
+
+import com.badlogic.gdx.Gdx;
+import model.Replay;
+import model.TickInput;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Feeds a recorded run back tick by tick. Each call to {@link #step(GameWorld, float)} applies the next
+ * recorded input and advances the world once, exactly as the live loop in {@code GameView} does.
+ */
+public class ReplayPlayer {
+    private final Replay replay;
+    private final DataInputStream in;
+    private final TickInput input = new TickInput();
+    private int tick;
+
+    public ReplayPlayer(Replay replay) {
+        this.replay = replay;
+        this.in = new DataInputStream(new ByteArrayInputStream(replay.getTickData()));
+    }
+
+    public boolean hasNext() { return tick < replay.getTickCount(); }
+
+    public boolean step(GameWorld world, float stepSeconds) {
+        if (!hasNext()) return false;
+        try {
+            input.read(in);
+        } catch (IOException e) {
+            Gdx.app.error("ReplayPlayer", "Replay data ended early at tick " + tick + " of " + replay.getTickCount(), e);
+            tick = replay.getTickCount();
+            return false;
+        }
+        world.applyInput(input);
+        world.step(stepSeconds);
+        tick++;
+        return true;
+    }
+
+    public int getTick() { return tick; }
+    public Replay getReplay() { return replay; }
+}
@@ -0,0 +1,56 @@
+package controller;
+
+import com.badlogic.gdx.Gdx;
+import model.Replay;
+import model.TickInput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/** Appends each tick's input as it is fed to the world, then packs the run into a {@link Replay}. */
+public class ReplayRecorder {
+    private final long seed;
+    private final String heroName;
+    private final String gunName;
+    private final int gameDurationMinutes;
+    private final int simulationRateHz;
+    private final float viewportWidth;
+    private final float viewportHeight;
+    private final boolean autoReloadEnabled;
+    private final int aiBudgetMicros;
+
+    // Roughly a 20 minute run at 60 Hz with no actions, so most recordings never grow the buffer.
+    private final ByteArrayOutputStream ticks = new ByteArrayOutputStream(72 * 1024);
+    private final DataOutputStream out = new DataOutputStream(ticks);
+    private int tickCount;
+
+    public ReplayRecorder(long seed, String heroName, String gunName, int gameDurationMinutes, int simulationRateHz,
+                          float viewportWidth, float viewportHeight, boolean autoReloadEnabled, int aiBudgetMicros) {
+        this.seed = seed;
+        this.heroName = heroName;
+        this.gunName = gunName;
+        this.gameDurationMinutes = gameDurationMinutes;
+        this.simulationRateHz = simulationRateHz;
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.autoReloadEnabled = autoReloadEnabled;
+        this.aiBudgetMicros = aiBudgetMicros;
+    }
+
+    public void record(TickInput input) {
+        try {
+            input.write(out);
+            tickCount++;
+        } catch (IOException e) {
+            Gdx.app.error("ReplayRecorder", "Failed to record tick " + tickCount, e);
+        }
+    }
+
+    public Replay toReplay() {
+        return new Replay(seed, heroName, gunName, gameDurationMinutes, simulationRateHz,
+            viewportWidth, viewportHeight, autoReloadEnabled, aiBudgetMicros, tickCount, ticks.toByteArray());
+    }
+
+    public int getTickCount() { return tickCount; }
+}
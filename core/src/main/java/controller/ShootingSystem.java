@@ -0,0 +1,52 @@
+package controller;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import model.BulletStore;
+import model.Enemy;
+import model.EnemyComponent;
+import model.Families;
+import model.Player;
+import model.ShooterComponent;
+
+/** Fires at the player from every ranged enemy whose shot cooldown has elapsed. */
+public class ShootingSystem extends IteratingSystem {
+    private static final float ENEMY_BULLET_LIFETIME = 6f;
+
+    private final ComponentMapper<EnemyComponent> enemies = ComponentMapper.getFor(EnemyComponent.class);
+    private final ComponentMapper<ShooterComponent> shooters = ComponentMapper.getFor(ShooterComponent.class);
+    private final Player player;
+    private final BulletStore enemyBullets;
+    private final Vector2 enemyCenter = new Vector2();
+    private final Vector2 directionToPlayer = new Vector2();
+
+    public ShootingSystem(int priority, Player player, BulletStore enemyBullets) {
+        super(Families.SHOOTERS, priority);
+        this.player = player;
+        this.enemyBullets = enemyBullets;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        fireIfReady(entity);
+    }
+
+    /** Fires at the player if the shooter is alive and its cooldown has elapsed; {@link AiSystem} calls this one shooter at a time. */
+    public void fireIfReady(Entity entity) {
+        Enemy enemy = enemies.get(entity).enemy;
+        if (!enemy.isAlive() || enemy.isDying()) return;
+        if (enemy.canShoot()) shootEnemyBullet(enemy, shooters.get(entity).bulletSpeed, player.getX(), player.getY());
+    }
+
+    private void shootEnemyBullet(Enemy shooter, int bulletSpeed, float targetX, float targetY) {
+        enemyCenter.set(shooter.getX() + shooter.getBounds().width / 2, shooter.getY() + shooter.getBounds().height / 2);
+        directionToPlayer.set(targetX - enemyCenter.x, targetY - enemyCenter.y).nor();
+        float offsetDistance = shooter.getBounds().width / 2 + 10;
+        float bulletStartX = enemyCenter.x + directionToPlayer.x * offsetDistance - enemyBullets.getWidth() / 2;
+        float bulletStartY = enemyCenter.y + directionToPlayer.y * offsetDistance - enemyBullets.getHeight() / 2;
+        int bulletDamage = shooter.getEnemyData().getDamage();
+        enemyBullets.add(bulletStartX, bulletStartY, bulletSpeed, directionToPlayer.x, directionToPlayer.y, bulletDamage, ENEMY_BULLET_LIFETIME);
+    }
+}
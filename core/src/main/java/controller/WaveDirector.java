@@ -0,0 +1,195 @@
+package controller;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import model.EnemyArchetype;
+import model.EnemyArchetypeRegistry;
+import model.WaveRule;
+import model.WaveSchedule;
+
+import java.util.Arrays;
+
+/**
+ * Compiles the rules in {@code waves.json} into a timeline of spawn waves for one run, sorted by time and
+ * worked out entirely up front from the run length. Each tick, waves that have come due are handed to a
+ * {@link Spawner}, trimmed to their type's cap and the cap on living enemies. Since the timeline is fixed,
+ * the expected spawn load and population over the run are known before the first enemy appears.
+ */
+public class WaveDirector {
+    /** Where the director's waves end up; implemented by {@link EnemyController}. */
+    public interface Spawner {
+        /** Living enemies of the type, counting any accepted but not yet placed. */
+        int getLiveCount(int typeId);
+        int getLiveTotal();
+        /** Takes up to {@code count} enemies of the type to place and returns how many it accepted. */
+        int spawn(int typeId, int count, boolean nearPlayer);
+    }
+
+    public static final int DEFAULT_MAX_LIVE_ENEMIES = 1000;
+    // A repeating wave this far overdue was skipped over (time cheat); dropping it avoids a burst of catch-up spawns.
+    private static final float MAX_LATENESS_SECONDS = 1f;
+    private static final float SMALLEST_INTERVAL = 0.05f;
+
+    private final float runSeconds;
+    private int maxLiveEnemies;
+
+    private final IntArray ruleTypeIds = new IntArray();
+    private final IntArray ruleCaps = new IntArray();
+    private final BooleanArray ruleNearPlayer = new BooleanArray();
+    private final BooleanArray ruleRepeating = new BooleanArray();
+    private final BooleanArray ruleUncapped = new BooleanArray();
+
+    private final FloatArray waveTimes = new FloatArray();
+    private final IntArray waveRules = new IntArray();
+    private final IntArray waveCounts = new IntArray();
+    private int cursor;
+
+    private int spawned;
+    private int droppedByCap;
+    private int droppedLate;
+
+    public WaveDirector(WaveSchedule schedule, EnemyArchetypeRegistry archetypes, float runSeconds) {
+        this.runSeconds = runSeconds;
+        this.maxLiveEnemies = schedule != null && schedule.getMax_live_enemies() > 0 ? schedule.getMax_live_enemies() : DEFAULT_MAX_LIVE_ENEMIES;
+        if (schedule == null || schedule.getWaves() == null) {
+            Gdx.app.error("WaveDirector", "No wave schedule loaded. Nothing will spawn.");
+            return;
+        }
+        for (WaveRule rule : schedule.getWaves()) {
+            EnemyArchetype archetype = archetypes.get(rule.getEnemy());
+            if (archetype == null) Gdx.app.error("WaveDirector", "Wave rule for unknown enemy '" + rule.getEnemy() + "'. Skipping.");
+            else compileRule(rule, archetype);
+        }
+        sortTimeline();
+    }
+
+    private void compileRule(WaveRule rule, EnemyArchetype archetype) {
+        int ruleIndex = ruleTypeIds.size;
+        boolean repeating = rule.getInterval() > 0;
+        ruleTypeIds.add(archetype.getTypeId());
+        ruleCaps.add(rule.getCap());
+        ruleNearPlayer.add("near".equalsIgnoreCase(rule.getPlacement()));
+        ruleRepeating.add(repeating);
+        ruleUncapped.add(archetype.isBoss());
+
+        float start = rule.getStart() * runSeconds;
+        float end = rule.getEnd() > 0 ? Math.min(rule.getEnd(), 1f) * runSeconds : runSeconds;
+        if (rule.getInitial() > 0) addWave(0f, ruleIndex, rule.getInitial());
+        if (!repeating) {
+            if (start <= end) addWave(start, ruleIndex, countAt(rule, start));
+            return;
+        }
+        // Like the old spawn timers: a rule that opens late fires right away if a full interval has already passed.
+        for (float time = Math.max(start, intervalAt(rule, 0f)); time <= end; time += intervalAt(rule, time)) {
+            addWave(time, ruleIndex, countAt(rule, time));
+        }
+    }
+
+    private float intervalAt(WaveRule rule, float time) {
+        float interval = rule.getInterval() * (1f - time / runSeconds * rule.getInterval_decay());
+        return Math.max(SMALLEST_INTERVAL, Math.max(rule.getMin_interval(), interval));
+    }
+
+    private int countAt(WaveRule rule, float time) {
+        float divisor = rule.getCount_divisor() != 0 ? rule.getCount_divisor() : 1f;
+        int count = MathUtils.floor((rule.getCount_elapsed() * time + rule.getCount_duration() * runSeconds + rule.getCount_constant()) / divisor);
+        return Math.max(rule.getMin_count(), count);
+    }
+
+    private void addWave(float time, int ruleIndex, int count) {
+        if (count <= 0) return;
+        waveTimes.add(time);
+        waveRules.add(ruleIndex);
+        waveCounts.add(count);
+    }
+
+    // Stable, so waves due at the same moment keep the order their rules appear in the file.
+    private void sortTimeline() {
+        Integer[] order = new Integer[waveTimes.size];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Float.compare(waveTimes.get(a), waveTimes.get(b)));
+        float[] times = waveTimes.toArray();
+        int[] rules = waveRules.toArray();
+        int[] counts = waveCounts.toArray();
+        for (int i = 0; i < order.length; i++) {
+            waveTimes.set(i, times[order[i]]);
+            waveRules.set(i, rules[order[i]]);
+            waveCounts.set(i, counts[order[i]]);
+        }
+    }
+
+    /** Hands every wave due by {@code elapsedSeconds} that has not been handled yet to the spawner. */
+    public void update(float elapsedSeconds, Spawner spawner) {
+        while (cursor < waveTimes.size && waveTimes.get(cursor) <= elapsedSeconds) {
+            int rule = waveRules.get(cursor);
+            int count = waveCounts.get(cursor);
+            boolean late = elapsedSeconds - waveTimes.get(cursor) > MAX_LATENESS_SECONDS;
+            cursor++;
+            if (late && ruleRepeating.get(rule)) {
+                droppedLate += count;
+                continue;
+            }
+            int typeId = ruleTypeIds.get(rule);
+            int allowed = count;
+            if (ruleCaps.get(rule) > 0) allowed = Math.min(allowed, ruleCaps.get(rule) - spawner.getLiveCount(typeId));
+            if (!ruleUncapped.get(rule)) allowed = Math.min(allowed, maxLiveEnemies - spawner.getLiveTotal());
+            allowed = Math.max(0, allowed);
+            droppedByCap += count - allowed;
+            if (allowed > 0) spawned += spawner.spawn(typeId, allowed, ruleNearPlayer.get(rule));
+        }
+    }
+
+    /**
+     * Living enemies at {@code seconds} into the run if none were killed, after per-type and global caps:
+     * an upper bound on the load the schedule can put on the simulation at that point.
+     */
+    public int getExpectedPopulation(float seconds) {
+        int[] perRule = new int[ruleTypeIds.size];
+        for (int i = 0; i < waveTimes.size && waveTimes.get(i) <= seconds; i++) perRule[waveRules.get(i)] += waveCounts.get(i);
+        int capped = 0, uncapped = 0;
+        for (int rule = 0; rule < perRule.length; rule++) {
+            int alive = ruleCaps.get(rule) > 0 ? Math.min(perRule[rule], ruleCaps.get(rule)) : perRule[rule];
+            if (ruleUncapped.get(rule)) uncapped += alive;
+            else capped += alive;
+        }
+        return Math.min(capped, maxLiveEnemies) + uncapped;
+    }
+
+    /** Most enemies the schedule asks for within any window of the given length. */
+    public int getPeakSpawnsWithin(float windowSeconds) {
+        int peak = 0, inWindow = 0;
+        for (int head = 0, tail = 0; head < waveTimes.size; head++) {
+            inWindow += waveCounts.get(head);
+            while (waveTimes.get(head) - waveTimes.get(tail) >= windowSeconds) inWindow -= waveCounts.get(tail++);
+            peak = Math.max(peak, inWindow);
+        }
+        return peak;
+    }
+
+    public void logSchedule() {
+        StringBuilder curve = new StringBuilder();
+        for (int quarter = 1; quarter <= 4; quarter++) {
+            if (quarter > 1) curve.append(", ");
+            curve.append((int) (runSeconds * quarter / 4f)).append("s=").append(getExpectedPopulation(runSeconds * quarter / 4f));
+        }
+        Gdx.app.log("WaveDirector", "Compiled " + waveTimes.size + " waves from " + ruleTypeIds.size + " rules; peak spawns per second="
+            + getPeakSpawnsWithin(1f) + ", expected population without kills: " + curve);
+    }
+
+    public void logStats() {
+        Gdx.app.log("WaveDirector", "Waves: " + cursor + "/" + waveTimes.size + " fired, spawned=" + spawned + ", dropped by caps=" + droppedByCap
+            + " (live cap " + maxLiveEnemies + "), dropped late=" + droppedLate);
+    }
+
+    public int getMaxLiveEnemies() { return maxLiveEnemies; }
+    public void setMaxLiveEnemies(int maxLiveEnemies) { this.maxLiveEnemies = Math.max(1, maxLiveEnemies); }
+    public int getWaveCount() { return waveTimes.size; }
+    public float getWaveTime(int index) { return waveTimes.get(index); }
+    public int getWaveTypeId(int index) { return ruleTypeIds.get(waveRules.get(index)); }
+    public int getWaveSize(int index) { return waveCounts.get(index); }
+    public int getSpawned() { return spawned; }
+    public int getDroppedByCap() { return droppedByCap; }
+}
@@ -0,0 +1,146 @@
+package model;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Projectiles kept as parallel primitive arrays instead of one object per shot.
+ * Removal swaps the last live slot into the freed one, so order is not stable and indices
+ * above a removed slot must not be relied on; iterate backwards when removing by index.
+ */
+public class BulletStore {
+    private float[] x;
+    private float[] y;
+    private float[] prevX;
+    private float[] prevY;
+    private float[] dirX;
+    private float[] dirY;
+    private float[] speed;
+    private float[] lifetime;
+    private int[] damage;
+    private int size;
+
+    private final float width;
+    private final float height;
+    private int growCount;
+
+    public BulletStore(int initialCapacity, float width, float height) {
+        int capacity = Math.max(8, initialCapacity);
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.prevX = new float[capacity];
+        this.prevY = new float[capacity];
+        this.dirX = new float[capacity];
+        this.dirY = new float[capacity];
+        this.speed = new float[capacity];
+        this.lifetime = new float[capacity];
+        this.damage = new int[capacity];
+        this.width = width;
+        this.height = height;
+    }
+
+    public int add(float startX, float startY, float bulletSpeed, float directionX, float directionY, int bulletDamage, float lifetimeSeconds) {
+        if (size == x.length) grow();
+        int i = size++;
+        x[i] = startX;
+        y[i] = startY;
+        prevX[i] = startX;
+        prevY[i] = startY;
+        dirX[i] = directionX;
+        dirY[i] = directionY;
+        speed[i] = bulletSpeed;
+        lifetime[i] = lifetimeSeconds;
+        damage[i] = bulletDamage;
+        return i;
+    }
+
+    /** Moves every bullet, then drops the ones whose lifetime ran out or that left the given world rectangle. */
+    public void update(float delta, float minX, float minY, float maxX, float maxY) {
+        int i = 0;
+        while (i < size) {
+            float distance = speed[i] * delta;
+            float newX = x[i] + dirX[i] * distance;
+            float newY = y[i] + dirY[i] * distance;
+            float remaining = lifetime[i] - delta;
+            if (remaining <= 0f || newX + width < minX || newX > maxX || newY + height < minY || newY > maxY) {
+                removeIndex(i);
+                continue;
+            }
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] = newX;
+            y[i] = newY;
+            lifetime[i] = remaining;
+            i++;
+        }
+    }
+
+    public void removeIndex(int index) {
+        int last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            prevX[index] = prevX[last];
+            prevY[index] = prevY[last];
+            dirX[index] = dirX[last];
+            dirY[index] = dirY[last];
+            speed[index] = speed[last];
+            lifetime[index] = lifetime[last];
+            damage[index] = damage[last];
+        }
+    }
+
+    /**
+     * Submits each bullet between its previous and current simulated position; {@code alpha} is in [0, 1].
+     * Bullets outside {@code view} are skipped unless it is null. Returns how many were submitted.
+     */
+    public int draw(RenderQueue queue, int layer, TextureRegion textureRegion, float alpha, Rectangle view) {
+        if (textureRegion == null) return 0;
+        int drawn = 0;
+        for (int i = 0; i < size; i++) {
+            if (view != null && (x[i] + width <= view.x || x[i] >= view.x + view.width || y[i] + height <= view.y || y[i] >= view.y + view.height)) continue;
+            float drawX = prevX[i] + (x[i] - prevX[i]) * alpha;
+            float drawY = prevY[i] + (y[i] - prevY[i]) * alpha;
+            queue.add(layer, 0, textureRegion, drawX, drawY, width, height);
+            drawn++;
+        }
+        return drawn;
+    }
+
+    public Rectangle getBounds(int index, Rectangle out) {
+        return out.set(x[index], y[index], width, height);
+    }
+
+    public void clear() { size = 0; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public float getX(int index) { return x[index]; }
+    public float getY(int index) { return y[index]; }
+    public int getDamage(int index) { return damage[index]; }
+    public float getWidth() { return width; }
+    public float getHeight() { return height; }
+    public int getCapacity() { return x.length; }
+    public int getGrowCount() { return growCount; }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = copyOf(x, capacity);
+        y = copyOf(y, capacity);
+        prevX = copyOf(prevX, capacity);
+        prevY = copyOf(prevY, capacity);
+        dirX = copyOf(dirX, capacity);
+        dirY = copyOf(dirY, capacity);
+        speed = copyOf(speed, capacity);
+        lifetime = copyOf(lifetime, capacity);
+        int[] newDamage = new int[capacity];
+        System.arraycopy(damage, 0, newDamage, 0, size);
+        damage = newDamage;
+        growCount++;
+    }
+
+    private float[] copyOf(float[] source, int capacity) {
+        float[] copy = new float[capacity];
+        System.arraycopy(source, 0, copy, 0, size);
+        return copy;
+    }
+}
@@ -1,17 +1,12 @@
 package model;
 
 import com.badlogic.gdx.utils.Array;
-<<<<<<< HEAD
 import com.badlogic.gdx.utils.ObjectMap;
-=======
-import com.badlogic.gdx.utils.ObjectMap; // Changed from java.util.Map to GDX ObjectMap
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 
 public class CharacterData {
     private String name;
     private int speed;
     private int hp;
-<<<<<<< HEAD
 
     private ObjectMap<String, Array<String>> animations;
 
@@ -20,16 +15,6 @@ public class CharacterData {
     }
 
 
-=======
-    // Changed to ObjectMap to align with LibGDX's Json parsing default for maps
-    private ObjectMap<String, Array<String>> animations;
-
-    public CharacterData(){
-        // Default constructor for Json serialization
-    }
-
-    // Changed constructor to use ObjectMap
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     public CharacterData(String name, int speed, int hp, ObjectMap<String, Array<String>> animations) {
         this.name = name;
         this.speed = speed;
@@ -49,11 +34,7 @@ public class CharacterData {
         return hp;
     }
 
-<<<<<<< HEAD
 
-=======
-    // Changed return type to ObjectMap
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     public ObjectMap<String, Array<String>> getAnimations() {
         return animations;
     }
@@ -61,11 +42,7 @@ public class CharacterData {
     public void setHp(int hp) { this.hp = hp; }
     public void setSpeed(int speed) { this.speed = speed; }
 
-<<<<<<< HEAD
 
-=======
-    // Optional: for debugging/logging
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     @Override
     public String toString() {
         return "CharacterData{" +
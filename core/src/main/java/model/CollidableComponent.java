@@ -0,0 +1,10 @@
+package model;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/** Marks an enemy that deals contact damage to the player. */
+public class CollidableComponent implements Component, Pool.Poolable {
+    @Override
+    public void reset() {}
+}
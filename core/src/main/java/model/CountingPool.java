@@ -0,0 +1,37 @@
+package model;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * {@link Pool} that records how often {@link #obtain()} was served from the free list (hit)
+ * versus by allocating a new instance (miss). Use the counters and peak to size {@link #prewarm(int)}.
+ */
+public abstract class CountingPool<T> extends Pool<T> {
+    private int hits;
+    private int misses;
+
+    public CountingPool(int initialCapacity, int max) {
+        super(initialCapacity, max);
+    }
+
+    @Override
+    public T obtain() {
+        if (getFree() > 0) hits++;
+        else misses++;
+        return super.obtain();
+    }
+
+    /** Tops the free list up to {@code count} instances so the first waves don't allocate. */
+    public void prewarm(int count) {
+        int missing = count - getFree();
+        if (missing > 0) fill(missing);
+    }
+
+    public void resetCounters() {
+        hits = 0;
+        misses = 0;
+    }
+
+    public int getHits() { return hits; }
+    public int getMisses() { return misses; }
+}
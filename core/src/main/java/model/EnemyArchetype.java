@@ -0,0 +1,163 @@
+package model;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Everything enemies of one {@link EnemyData} type have in common: animations, draw size and behaviour.
+ * Built once per type by {@link EnemyArchetypeRegistry} and shared by every {@link Enemy} of that type.
+ */
+public class EnemyArchetype {
+    public static final int FLAG_STATIC = 1;
+    public static final int FLAG_SHOOTER = 1 << 1;
+    public static final int FLAG_DASHER = 1 << 2;
+    public static final int FLAG_BOSS = 1 << 3;
+
+    public static final int LEASH_NONE = 0;
+    public static final int LEASH_RELOCATE = 1;
+    public static final int LEASH_RECYCLE = 2;
+    private static final float DEFAULT_LEASH_RADIUS = 2400f;
+
+    private static final float BOSS_DRAW_WIDTH = 160f;
+    private static final float BOSS_DRAW_HEIGHT = 160f;
+    private static final float DEFAULT_DRAW_SIZE = 50f;
+
+    private final int typeId;
+    private final int flags;
+    private final EnemyData data;
+    private final ObjectMap<String, Animation<TextureRegion>> animations;
+    private final Animation<TextureRegion> deathAnimation;
+    private final Animation<TextureRegion> spawnAnimation;
+    private final String initialAnimationName;
+    private final float drawWidth;
+    private final float drawHeight;
+    private final int leashPolicy;
+    private final float leashRadius;
+
+    private final int seedXpValue;
+
+    public EnemyArchetype(int typeId, EnemyData data, GameAssetManager assetManager) {
+        this.typeId = typeId;
+        this.data = data;
+        this.animations = loadAnimations(data, assetManager);
+        this.spawnAnimation = animations.get("spawn");
+        this.deathAnimation = assetManager.getEnemyDeathAnimation("damage");
+        if (deathAnimation == null) {
+            Gdx.app.log("EnemyArchetype", "Generic Enemy 'death' (explosion) animation not found for " + data.getName() + ".");
+        }
+
+        String name = data.getName();
+        this.flags = parseFlags(data);
+        boolean boss = (flags & FLAG_BOSS) != 0;
+        this.seedXpValue = name.equals("Tree") || boss ? 10 : 3;
+        this.leashPolicy = parseLeashPolicy(data, flags);
+        this.leashRadius = data.getLeash_radius() > 0 ? data.getLeash_radius() : DEFAULT_LEASH_RADIUS;
+
+        String initial = "show";
+        TextureRegion firstFrame = firstFrame("show");
+        if (firstFrame == null) {
+            firstFrame = firstFrame("idle");
+            if (firstFrame != null) initial = "idle";
+        }
+        if (boss) {
+            drawWidth = BOSS_DRAW_WIDTH;
+            drawHeight = BOSS_DRAW_HEIGHT;
+        } else if (firstFrame != null) {
+            drawWidth = firstFrame.getRegionWidth() * Enemy.ENEMY_SCALE_FACTOR;
+            drawHeight = firstFrame.getRegionHeight() * Enemy.ENEMY_SCALE_FACTOR;
+        } else {
+            Gdx.app.error("EnemyArchetype", "No 'show' or 'idle' animation for " + name + ". Using default size.");
+            drawWidth = DEFAULT_DRAW_SIZE * Enemy.ENEMY_SCALE_FACTOR;
+            drawHeight = DEFAULT_DRAW_SIZE * Enemy.ENEMY_SCALE_FACTOR;
+        }
+        this.initialAnimationName = initial;
+    }
+
+    // The only place enemy names are interpreted; everything downstream tests flags.
+    private static int parseFlags(EnemyData data) {
+        String name = data.getName();
+        int flags = 0;
+        if (data.getSpeed() <= 0 || name.equals("Tree")) flags |= FLAG_STATIC;
+        if (name.equals("EyeBat")) flags |= FLAG_SHOOTER;
+        if (name.equals("Boss")) flags |= FLAG_BOSS | FLAG_DASHER;
+        return flags;
+    }
+
+    // Chasers that fall behind are brought back to the edge, scenery is dropped and regrown, the boss is never touched.
+    private static int parseLeashPolicy(EnemyData data, int flags) {
+        String leash = data.getLeash();
+        if (leash != null) {
+            if (leash.equalsIgnoreCase("relocate")) return LEASH_RELOCATE;
+            if (leash.equalsIgnoreCase("recycle")) return LEASH_RECYCLE;
+            if (leash.equalsIgnoreCase("none")) return LEASH_NONE;
+            Gdx.app.error("EnemyArchetype", "Unknown leash '" + leash + "' for " + data.getName() + ". Using the default.");
+        }
+        if ((flags & FLAG_BOSS) != 0) return LEASH_NONE;
+        return (flags & FLAG_STATIC) != 0 ? LEASH_RECYCLE : LEASH_RELOCATE;
+    }
+
+    // Only "show" and "idle" loop; every other animation plays once.
+    private static ObjectMap<String, Animation<TextureRegion>> loadAnimations(EnemyData enemyData, GameAssetManager assetManager) {
+        ObjectMap<String, Animation<TextureRegion>> loadedAnimations = new ObjectMap<>();
+        ObjectMap<String, Array<String>> animationPaths = enemyData.getAnimations();
+        if (animationPaths == null || animationPaths.isEmpty()) {
+            Gdx.app.log("EnemyArchetype", "No animation paths defined for: " + enemyData.getName());
+            return loadedAnimations;
+        }
+        for (ObjectMap.Entry<String, Array<String>> entry : animationPaths.entries()) {
+            String animationName = entry.key;
+            Array<String> paths = entry.value;
+            if (paths == null || paths.size == 0) continue;
+            Array<TextureRegion> frames = new Array<>(TextureRegion[]::new);
+            for (String path : paths) {
+                TextureRegion frame = assetManager.getTextureRegion(path);
+                if (frame != null) frames.add(frame);
+                else Gdx.app.error("EnemyArchetype", "TEXTURE NOT FOUND for enemy (" + enemyData.getName() + ") anim '" + animationName + "' frame: [" + path + "]");
+            }
+            if (frames.size == 0) {
+                Gdx.app.error("EnemyArchetype", "No frames loaded for anim '" + animationName + "' for enemy: " + enemyData.getName());
+                continue;
+            }
+            boolean looping = animationName.equals("show") || animationName.equals("idle");
+            float frameDuration = animationName.equalsIgnoreCase("spawn") ? 0.15f : (animationName.equalsIgnoreCase("dash") ? 0.05f : 0.1f);
+            loadedAnimations.put(animationName, new Animation<>(frameDuration, frames, looping ? Animation.PlayMode.LOOP : Animation.PlayMode.NORMAL));
+        }
+        if (loadedAnimations.isEmpty()) Gdx.app.error("EnemyArchetype", "CRITICAL: No animations loaded for " + enemyData.getName() + " despite paths in JSON.");
+        return loadedAnimations;
+    }
+
+    private TextureRegion firstFrame(String animationName) {
+        Animation<TextureRegion> animation = animations.get(animationName);
+        if (animation == null || animation.getKeyFrames().length == 0) return null;
+        return animation.getKeyFrame(0);
+    }
+
+    /** True when the JSON lists animations but none of their frames could be loaded. */
+    public boolean isMissingAnimations() {
+        return animations.isEmpty() && data.getAnimations() != null && !data.getAnimations().isEmpty();
+    }
+
+    public int getTypeId() { return typeId; }
+    public int getFlags() { return flags; }
+    public boolean hasFlag(int flag) { return (flags & flag) != 0; }
+    public EnemyData getData() { return data; }
+    public String getName() { return data.getName(); }
+    public Animation<TextureRegion> getAnimation(String animationName) { return animations.get(animationName); }
+    public boolean hasAnimation(String animationName) { return animations.containsKey(animationName); }
+    public Animation<TextureRegion> getDeathAnimation() { return deathAnimation; }
+    public String getInitialAnimationName() { return initialAnimationName; }
+    public float getDrawWidth() { return drawWidth; }
+    public float getDrawHeight() { return drawHeight; }
+    public Animation<TextureRegion> getSpawnAnimation() { return spawnAnimation; }
+    public boolean isMover() { return (flags & FLAG_STATIC) == 0; }
+    public boolean isShooter() { return (flags & FLAG_SHOOTER) != 0; }
+    public boolean isDasher() { return (flags & FLAG_DASHER) != 0; }
+    public boolean isBoss() { return (flags & FLAG_BOSS) != 0; }
+    public int getSeedXpValue() { return seedXpValue; }
+    /** One of the {@code LEASH_*} policies: what happens once the enemy is further than {@link #getLeashRadius()} from the player. */
+    public int getLeashPolicy() { return leashPolicy; }
+    public float getLeashRadius() { return leashRadius; }
+}
@@ -0,0 +1,53 @@
+package model;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Builds each {@link EnemyArchetype} once and hands out the shared instance on every spawn.
+ * Type ids are dense and assigned in build order, so they can index plain arrays.
+ */
+public class EnemyArchetypeRegistry {
+    private final GameAssetManager assetManager;
+    private final ObjectMap<String, EnemyArchetype> archetypes = new ObjectMap<>();
+    private final Array<EnemyArchetype> archetypesById = new Array<>();
+
+    public EnemyArchetypeRegistry(GameAssetManager assetManager) {
+        this.assetManager = assetManager;
+    }
+
+    public void buildAll(Array<EnemyData> allEnemyData) {
+        for (EnemyData enemyData : allEnemyData) get(enemyData);
+        Gdx.app.log("EnemyArchetypeRegistry", "Built " + archetypes.size + " enemy archetypes.");
+    }
+
+    public EnemyArchetype get(EnemyData enemyData) {
+        EnemyArchetype archetype = archetypes.get(enemyData.getName());
+        if (archetype == null) {
+            archetype = new EnemyArchetype(archetypesById.size, enemyData, assetManager);
+            archetypes.put(enemyData.getName(), archetype);
+            archetypesById.add(archetype);
+        }
+        return archetype;
+    }
+
+    public EnemyArchetype get(String enemyName) {
+        EnemyArchetype archetype = archetypes.get(enemyName);
+        if (archetype != null) return archetype;
+        EnemyData enemyData = assetManager.getEnemyDataByName(enemyName);
+        return enemyData != null ? get(enemyData) : null;
+    }
+
+    public EnemyArchetype get(int typeId) {
+        return typeId >= 0 && typeId < archetypesById.size ? archetypesById.get(typeId) : null;
+    }
+
+    /** Type id for the given enemy name, or -1 if no such enemy is defined. */
+    public int getTypeId(String enemyName) {
+        EnemyArchetype archetype = get(enemyName);
+        return archetype != null ? archetype.getTypeId() : -1;
+    }
+
+    public int size() { return archetypesById.size; }
+}
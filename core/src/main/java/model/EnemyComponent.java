@@ -0,0 +1,16 @@
+package model;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class EnemyComponent implements Component, Pool.Poolable {
+    public Enemy enemy;
+    // Index in EnemyController's parallel arrays, so removal can swap the last entry into it.
+    public int slot = -1;
+
+    @Override
+    public void reset() {
+        enemy = null;
+        slot = -1;
+    }
+}
@@ -1,43 +1,24 @@
-<<<<<<< HEAD
 
-=======
-// model/EnemyData.java
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 package model;
 
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 
-<<<<<<< HEAD
 
 public class EnemyData {
     private String name;
     private int damage;
     private float damage_rate;
-=======
-/**
- * Data class representing an enemy's properties and animation paths from JSON.
- */
-public class EnemyData {
-    private String name;
-    private int damage;
-    private float damage_rate; // Renamed from "damage rate" for Java convention
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    private String leash;
+    private float leash_radius;
     private int hp;
     private float speed;
     private ObjectMap<String, Array<String>> animations;
 
-<<<<<<< HEAD
 
     public EnemyData() {}
 
 
-=======
-    // Default constructor for Json deserialization
-    public EnemyData() {}
-
-    // Getters
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     public String getName() {
         return name;
     }
@@ -62,15 +43,23 @@ public class EnemyData {
         return animations;
     }
 
-<<<<<<< HEAD
+    /** "relocate", "recycle" or "none"; null lets the archetype pick a default for the enemy's kind. */
+    public String getLeash() {
+        return leash;
+    }
+
+    /** Distance from the player past which the leash applies; 0 or less uses the default. */
+    public float getLeash_radius() {
+        return leash_radius;
+    }
+
 
-=======
-    // Setters (optional, typically not needed for immutable data loaded from JSON)
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     public void setName(String name) { this.name = name; }
     public void setDamage(int damage) { this.damage = damage; }
     public void setDamage_rate(float damage_rate) { this.damage_rate = damage_rate; }
     public void setHp(int hp) { this.hp = hp; }
     public void setSpeed(float speed) { this.speed = speed; }
     public void setAnimations(ObjectMap<String, Array<String>> animations) { this.animations = animations; }
+    public void setLeash(String leash) { this.leash = leash; }
+    public void setLeash_radius(float leash_radius) { this.leash_radius = leash_radius; }
 }
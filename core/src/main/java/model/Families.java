@@ -0,0 +1,16 @@
+package model;
+
+import com.badlogic.ashley.core.Family;
+
+/** Entity families shared by the combat systems. */
+public final class Families {
+    public static final Family ENEMIES = Family.all(EnemyComponent.class).get();
+    public static final Family MOVERS = Family.all(EnemyComponent.class, MoverComponent.class).get();
+    public static final Family SHOOTERS = Family.all(EnemyComponent.class, ShooterComponent.class).get();
+    public static final Family COLLIDABLES = Family.all(EnemyComponent.class, CollidableComponent.class).get();
+    public static final Family OBSTACLES = Family.all(EnemyComponent.class, ObstacleComponent.class).get();
+    public static final Family PICKUPS = Family.all(PickupComponent.class).get();
+    public static final Family RENDERABLES = Family.all(RenderableComponent.class).get();
+
+    private Families() {}
+}
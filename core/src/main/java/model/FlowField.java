@@ -0,0 +1,181 @@
+package model;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.util.Arrays;
+
+/**
+ * Square grid of steering directions centred on a target (the player). A breadth-first pass from the
+ * target's cell gives every free cell its step distance; each cell then points at its closest neighbour.
+ * Cells that can see the target in a straight line are flagged so chasers keep steering directly at it,
+ * which leaves open-field movement exactly as it was and only bends paths around obstacles.
+ * The field is rebuilt only when the target changes cell or the obstacle set changes. A moved target changes every
+ * distance, so the breadth-first pass always covers the whole grid; the costlier direction and line-of-sight work
+ * is done for a cell the first time it is read after a rebuild, so only cells with chasers in them pay for it.
+ */
+public class FlowField {
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final float DIAGONAL = 0.70710677f;
+    // Neighbour offsets, orthogonal first so ties resolve the same way every time.
+    private static final int[] NEIGHBOUR_X = { 1, -1, 0, 0, 1, 1, -1, -1 };
+    private static final int[] NEIGHBOUR_Y = { 0, 0, 1, -1, 1, -1, 1, -1 };
+
+    private final float cellSize;
+    private final float inverseCellSize;
+    private final int radius;
+    private final int size;
+    private final float obstacleMargin;
+
+    private final boolean[] blocked;
+    private final boolean[] lineOfSight;
+    private final int[] distance;
+    private final float[] directionX;
+    private final float[] directionY;
+    private final int[] queue;
+    // Rebuild count when each cell's direction and line of sight were last worked out.
+    private final int[] resolvedAt;
+
+    private final FloatArray obstacles = new FloatArray(32);
+    private final FloatArray builtObstacles = new FloatArray(32);
+    private int originCellX, originCellY;
+    private int targetCellX = Integer.MIN_VALUE, targetCellY = Integer.MIN_VALUE;
+    private int rebuildCount;
+
+    public FlowField(float cellSize, int radius, float obstacleMargin) {
+        this.cellSize = cellSize > 0 ? cellSize : 64f;
+        this.inverseCellSize = 1f / this.cellSize;
+        this.radius = Math.max(1, radius);
+        this.size = this.radius * 2 + 1;
+        this.obstacleMargin = obstacleMargin;
+        int cells = size * size;
+        this.blocked = new boolean[cells];
+        this.lineOfSight = new boolean[cells];
+        this.distance = new int[cells];
+        this.directionX = new float[cells];
+        this.directionY = new float[cells];
+        this.queue = new int[cells];
+        this.resolvedAt = new int[cells];
+    }
+
+    /** Starts collecting this tick's obstacles; follow with {@link #addObstacle} calls and then {@link #update}. */
+    public void beginObstacles() {
+        obstacles.clear();
+    }
+
+    public void addObstacle(float x, float y, float width, float height) {
+        obstacles.add(x, y, width, height);
+    }
+
+    /** Rebuilds the field if the target moved to another cell or the obstacles changed. Returns whether it did. */
+    public boolean update(float targetX, float targetY) {
+        int cellX = MathUtils.floor(targetX * inverseCellSize);
+        int cellY = MathUtils.floor(targetY * inverseCellSize);
+        if (cellX == targetCellX && cellY == targetCellY && obstacles.equals(builtObstacles)) return false;
+        targetCellX = cellX;
+        targetCellY = cellY;
+        builtObstacles.clear();
+        builtObstacles.addAll(obstacles);
+        rebuild();
+        return true;
+    }
+
+    private void rebuild() {
+        originCellX = targetCellX - radius;
+        originCellY = targetCellY - radius;
+        Arrays.fill(blocked, false);
+        Arrays.fill(distance, UNREACHED);
+        for (int i = 0; i < builtObstacles.size; i += 4) {
+            markBlocked(builtObstacles.get(i), builtObstacles.get(i + 1), builtObstacles.get(i + 2), builtObstacles.get(i + 3));
+        }
+
+        int target = radius * size + radius;
+        blocked[target] = false;
+        distance[target] = 0;
+        int head = 0, tail = 0;
+        queue[tail++] = target;
+        while (head < tail) {
+            int cell = queue[head++];
+            int cx = cell % size, cy = cell / size;
+            for (int n = 0; n < 4; n++) {
+                int nx = cx + NEIGHBOUR_X[n], ny = cy + NEIGHBOUR_Y[n];
+                if (nx < 0 || ny < 0 || nx >= size || ny >= size) continue;
+                int neighbour = ny * size + nx;
+                if (blocked[neighbour] || distance[neighbour] != UNREACHED) continue;
+                distance[neighbour] = distance[cell] + 1;
+                queue[tail++] = neighbour;
+            }
+        }
+        rebuildCount++;
+    }
+
+    private void resolve(int cell) {
+        if (resolvedAt[cell] == rebuildCount) return;
+        resolvedAt[cell] = rebuildCount;
+        int cx = cell % size, cy = cell / size;
+        pointAtClosestNeighbour(cell, cx, cy);
+        lineOfSight[cell] = !blocked[cell] && (builtObstacles.size == 0 || canSeeTarget(cx, cy));
+    }
+
+    private void markBlocked(float x, float y, float width, float height) {
+        int minX = MathUtils.floor((x - obstacleMargin) * inverseCellSize) - originCellX;
+        int minY = MathUtils.floor((y - obstacleMargin) * inverseCellSize) - originCellY;
+        int maxX = MathUtils.floor((x + width + obstacleMargin) * inverseCellSize) - originCellX;
+        int maxY = MathUtils.floor((y + height + obstacleMargin) * inverseCellSize) - originCellY;
+        for (int cy = Math.max(0, minY); cy <= Math.min(size - 1, maxY); cy++) {
+            for (int cx = Math.max(0, minX); cx <= Math.min(size - 1, maxX); cx++) blocked[cy * size + cx] = true;
+        }
+    }
+
+    // Blocked cells get a direction too, so an enemy pushed into an obstacle's margin walks back out.
+    private void pointAtClosestNeighbour(int cell, int cx, int cy) {
+        int best = distance[cell];
+        float bestX = 0f, bestY = 0f;
+        for (int n = 0; n < 8; n++) {
+            int nx = cx + NEIGHBOUR_X[n], ny = cy + NEIGHBOUR_Y[n];
+            if (nx < 0 || ny < 0 || nx >= size || ny >= size) continue;
+            int neighbour = ny * size + nx;
+            if (distance[neighbour] >= best) continue;
+            // No corner cutting: a diagonal step needs both orthogonal cells free.
+            if (n >= 4 && (blocked[cy * size + nx] || blocked[ny * size + cx])) continue;
+            best = distance[neighbour];
+            float scale = n >= 4 ? DIAGONAL : 1f;
+            bestX = NEIGHBOUR_X[n] * scale;
+            bestY = NEIGHBOUR_Y[n] * scale;
+        }
+        directionX[cell] = bestX;
+        directionY[cell] = bestY;
+    }
+
+    private boolean canSeeTarget(int cx, int cy) {
+        int dx = radius - cx, dy = radius - cy;
+        int steps = Math.max(Math.abs(dx), Math.abs(dy));
+        for (int i = 1; i < steps; i++) {
+            int x = cx + Math.round((float) dx * i / steps);
+            int y = cy + Math.round((float) dy * i / steps);
+            if (blocked[y * size + x]) return false;
+        }
+        return true;
+    }
+
+    /** Grid index of the cell containing the world point, or -1 if it lies outside the field. */
+    public int cellAt(float worldX, float worldY) {
+        int cx = MathUtils.floor(worldX * inverseCellSize) - originCellX;
+        int cy = MathUtils.floor(worldY * inverseCellSize) - originCellY;
+        if (cx < 0 || cy < 0 || cx >= size || cy >= size || targetCellX == Integer.MIN_VALUE) return -1;
+        return cy * size + cx;
+    }
+
+    /** True where a chaser should follow the field rather than head straight for the target. */
+    public boolean isSteered(int cell) {
+        resolve(cell);
+        return !lineOfSight[cell] && (directionX[cell] != 0f || directionY[cell] != 0f);
+    }
+
+    public float getDirectionX(int cell) { resolve(cell); return directionX[cell]; }
+    public float getDirectionY(int cell) { resolve(cell); return directionY[cell]; }
+    public int getDistance(int cell) { return distance[cell]; }
+    public boolean isBlocked(int cell) { return blocked[cell]; }
+    public float getCellSize() { return cellSize; }
+    public int getRebuildCount() { return rebuildCount; }
+}
@@ -1,8 +1,4 @@
-<<<<<<< HEAD
 
-=======
-// model/GameAssetManager.java
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 package model;
 
 import com.badlogic.gdx.Gdx;
@@ -10,22 +6,19 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
-<<<<<<< HEAD
 import com.badlogic.gdx.graphics.g2d.Animation;
-=======
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
-import java.util.Random;
 
 public class GameAssetManager {
     private static GameAssetManager gameAssetManager;
     private final Skin skin;
     private final AssetManager assetManager;
-    private final Random random;
     private final String AVATAR_FOLDER = "avatars/";
     private Array<String> avatarImagePaths;
     public final String DEFAULT_AVATAR_PATH = AVATAR_FOLDER + "avatar_lion.png";
@@ -37,7 +30,7 @@ public class GameAssetManager {
     private Array<CharacterData> allCharacters;
     private Array<GunData> allGuns;
     private Array<EnemyData> allEnemies;
-<<<<<<< HEAD
+    private WaveSchedule waveSchedule;
     private Array<DamageAnimationData> allDamageAnimationsData;
 
 
@@ -47,34 +40,29 @@ public class GameAssetManager {
 
     public final String BULLET_TEXTURE_PATH = "guns/bullet.png";
     public final String ENEMY_SEED_TEXTURE_PATH = "guns/enemy_seed.png";
-=======
-
-    public final String BULLET_TEXTURE_PATH = "guns/bullet.png";
-    public final String ENEMY_SEED_TEXTURE_PATH = "guns/enemy_seed.png"; // NEW: Seed texture path
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    // Packed from the hero, gun, enemy and damage folders by the packTextures task, which must have run before the
+    // game starts. The Gradle run tasks do that; loading stops with an error naming the task if the atlas is missing.
+    public final String SPRITE_ATLAS_PATH = "atlas/sprites.atlas";
+    private final ObjectMap<String, TextureRegion> atlasRegions = new ObjectMap<>();
 
     private GameAssetManager() {
         this.skin = new Skin(Gdx.files.internal("skin/pixthulhu-ui.json"));
         this.assetManager = new AssetManager();
-        this.random = new Random();
         this.avatarImagePaths = new Array<>();
         this.backgroundImagePaths = new Array<>();
         this.musicPaths = new Array<>();
         this.allCharacters = new Array<>();
         this.allGuns = new Array<>();
         this.allEnemies = new Array<>();
-<<<<<<< HEAD
         this.allDamageAnimationsData = new Array<>();
         this.playerDamageAnimations = new ObjectMap<>();
         this.enemyDamageAnimations = new ObjectMap<>();
-=======
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+        loadSpriteAtlas();
 
         loadOtherAssets();
         loadHeroes();
         loadGuns();
         loadEnemies();
-<<<<<<< HEAD
         loadDamageAnimationsFromJson("resources/damages.json");
         loadGameAssets();
 
@@ -84,12 +72,6 @@ public class GameAssetManager {
 
         createLoadedPlayerDamageAnimations();
         createLoadedEnemyDamageAnimations();
-=======
-        loadGameAssets(); // This now includes the seed texture
-
-        assetManager.finishLoading();
-        Gdx.app.log("GameAssetManager", "All assets finished loading.");
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     }
 
     public static GameAssetManager getGameAssetManager() {
@@ -102,7 +84,6 @@ public class GameAssetManager {
     private void loadOtherAssets() {
         Json json = new Json();
 
-<<<<<<< HEAD
         FileHandle avatarsFile = Gdx.files.internal("resources/avatars.json");
         if (avatarsFile.exists()) {
             Array<String> avatarFiles = json.fromJson(Array.class, avatarsFile);
@@ -152,38 +133,10 @@ public class GameAssetManager {
         if (Gdx.files.internal(DEFAULT_AVATAR_PATH).exists()) {
             assetManager.load(DEFAULT_AVATAR_PATH, Texture.class);
         } else {Gdx.app.log("AssetLoading", "Default avatar not found: " + DEFAULT_AVATAR_PATH);}
-=======
-        Array<String> avatarFiles = json.fromJson(Array.class, Gdx.files.internal("resources/avatars.json"));
-        for (String filePath : avatarFiles) {
-            String fullPath = AVATAR_FOLDER + filePath;
-            assetManager.load(fullPath, Texture.class);
-            avatarImagePaths.add(fullPath);
-        }
-
-        Array<String> backgroundFiles = json.fromJson(Array.class, Gdx.files.internal("resources/backgrounds.json"));
-        for (String filePath : backgroundFiles) {
-            String fullPath = BACKGROUND_FOLDER + filePath;
-            assetManager.load(fullPath, Texture.class);
-            backgroundImagePaths.add(fullPath);
-        }
-
-        Array<String> musicFiles = json.fromJson(Array.class, Gdx.files.internal("resources/musics.json"));
-        for (String filePath : musicFiles) {
-            String fullPath = MUSIC_FOLDER + filePath;
-            assetManager.load(fullPath, Music.class);
-            musicPaths.add(fullPath);
-        }
-
-        assetManager.load(DEFAULT_AVATAR_PATH, Texture.class);
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     }
 
     private void loadHeroes() {
         loadCharacterDataFromJson("resources/heroes.json");
-<<<<<<< HEAD
-=======
-
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
         for (CharacterData character : allCharacters) {
             ObjectMap<String, Array<String>> animations = character.getAnimations();
             if (animations != null) {
@@ -191,13 +144,7 @@ public class GameAssetManager {
                     Array<String> animationPaths = entry.value;
                     if (animationPaths != null) {
                         for (String path : animationPaths) {
-<<<<<<< HEAD
-                            if (Gdx.files.internal(path).exists()) assetManager.load(path, Texture.class);
-                            else Gdx.app.log("AssetLoading", "Hero texture not found: " + path);
-=======
-                            assetManager.load(path, Texture.class);
-                            Gdx.app.log("AssetLoading", "Queued hero texture: " + path);
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+                            queueSprite(path, "Hero");
                         }
                     }
                 }
@@ -207,10 +154,6 @@ public class GameAssetManager {
 
     private void loadGuns() {
         loadGunDataFromJson("resources/guns.json");
-<<<<<<< HEAD
-=======
-
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
         for (GunData gun : allGuns) {
             ObjectMap<String, Array<String>> animations = gun.getAnimations();
             if (animations != null) {
@@ -218,13 +161,7 @@ public class GameAssetManager {
                     Array<String> animationPaths = entry.value;
                     if (animationPaths != null) {
                         for (String path : animationPaths) {
-<<<<<<< HEAD
-                            if (Gdx.files.internal(path).exists()) assetManager.load(path, Texture.class);
-                            else Gdx.app.log("AssetLoading", "Gun texture not found: " + path);
-=======
-                            assetManager.load(path, Texture.class);
-                            Gdx.app.log("AssetLoading", "Queued gun texture: " + path);
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+                            queueSprite(path, "Gun");
                         }
                     }
                 }
@@ -234,10 +171,7 @@ public class GameAssetManager {
 
     private void loadEnemies() {
         loadEnemyDataFromJson("resources/enemies.json");
-<<<<<<< HEAD
-=======
-
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+        loadWaveScheduleFromJson("resources/waves.json");
         for (EnemyData enemy : allEnemies) {
             ObjectMap<String, Array<String>> animations = enemy.getAnimations();
             if (animations != null) {
@@ -245,13 +179,7 @@ public class GameAssetManager {
                     Array<String> animationPaths = entry.value;
                     if (animationPaths != null) {
                         for (String path : animationPaths) {
-<<<<<<< HEAD
-                            if (Gdx.files.internal(path).exists()) assetManager.load(path, Texture.class);
-                            else Gdx.app.log("AssetLoading", "Enemy texture not found: " + path);
-=======
-                            assetManager.load(path, Texture.class);
-                            Gdx.app.log("AssetLoading", "Queued enemy texture: " + path);
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+                            queueSprite(path, "Enemy");
                         }
                     }
                 }
@@ -259,7 +187,6 @@ public class GameAssetManager {
         }
     }
 
-<<<<<<< HEAD
     private void loadDamageAnimationsFromJson(String jsonPath) {
         FileHandle fileHandle = Gdx.files.internal(jsonPath);
         if (!fileHandle.exists()) {
@@ -276,12 +203,7 @@ public class GameAssetManager {
                     Array<String> animationPaths = entry.value;
                     if (animationPaths != null) {
                         for (String path : animationPaths) {
-                            if (Gdx.files.internal(path).exists()) {
-                                assetManager.load(path, Texture.class);
-                                Gdx.app.log("AssetLoading", "Queued damage anim texture: " + path);
-                            } else {
-                                Gdx.app.log("AssetLoading", "Damage animation texture not found: " + path);
-                            }
+                            queueSprite(path, "Damage animation");
                         }
                     }
                 }
@@ -297,9 +219,8 @@ public class GameAssetManager {
                     Array<String> paths = animEntry.value;
                     Array<TextureRegion> frames = new Array<>();
                     for (String path : paths) {
-                        if (assetManager.isLoaded(path, Texture.class)) {
-                            frames.add(new TextureRegion(assetManager.get(path, Texture.class)));
-                        }
+                        TextureRegion region = findLoadedRegion(path);
+                        if (region != null) frames.add(region);
                     }
                     if (frames.size > 0) {
                         // Assuming 0.1f frame duration, non-looping for damage animation
@@ -320,9 +241,8 @@ public class GameAssetManager {
                     Array<String> paths = animEntry.value;
                     Array<TextureRegion> frames = new Array<>();
                     for (String path : paths) {
-                        if (assetManager.isLoaded(path, Texture.class)) {
-                            frames.add(new TextureRegion(assetManager.get(path, Texture.class)));
-                        }
+                        TextureRegion region = findLoadedRegion(path);
+                        if (region != null) frames.add(region);
                     }
                     if (frames.size > 0) {
                         // Assuming 0.1f frame duration, non-looping for death animation
@@ -345,73 +265,73 @@ public class GameAssetManager {
 
 
     private void loadGameAssets() {
-        if(Gdx.files.internal(BULLET_TEXTURE_PATH).exists()) assetManager.load(BULLET_TEXTURE_PATH, Texture.class);
-        else Gdx.app.log("AssetLoading", "Bullet texture not found: " + BULLET_TEXTURE_PATH);
+        queueSprite(BULLET_TEXTURE_PATH, "Bullet");
+        queueSprite(ENEMY_SEED_TEXTURE_PATH, "Enemy seed");
+    }
 
-        if(Gdx.files.internal(ENEMY_SEED_TEXTURE_PATH).exists()) assetManager.load(ENEMY_SEED_TEXTURE_PATH, Texture.class);
-        else Gdx.app.log("AssetLoading", "Enemy seed texture not found: " + ENEMY_SEED_TEXTURE_PATH);
-=======
-    private void loadGameAssets() {
-        assetManager.load(BULLET_TEXTURE_PATH, Texture.class);
-        Gdx.app.log("AssetLoading", "Queued game asset: " + BULLET_TEXTURE_PATH);
-        assetManager.load(ENEMY_SEED_TEXTURE_PATH, Texture.class); // NEW: Load seed texture
-        Gdx.app.log("AssetLoading", "Queued game asset: " + ENEMY_SEED_TEXTURE_PATH);
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    // The atlas is generated, not checked in; say how to build it instead of failing later inside the asset loader.
+    private void loadSpriteAtlas() {
+        FileHandle packFile = Gdx.files.internal(SPRITE_ATLAS_PATH);
+        if (!packFile.exists()) {
+            throw new GdxRuntimeException("Sprite atlas not found: " + SPRITE_ATLAS_PATH + ". Run ./gradlew packTextures to generate it.");
+        }
+        TextureAtlas.TextureAtlasData atlasData = new TextureAtlas.TextureAtlasData(packFile, packFile.parent(), false);
+        for (TextureAtlas.TextureAtlasData.Page page : atlasData.getPages()) {
+            if (!page.textureFile.exists()) {
+                throw new GdxRuntimeException("Sprite atlas page not found: " + page.textureFile.path() + ". Run ./gradlew packTextures to regenerate " + SPRITE_ATLAS_PATH + ".");
+            }
+        }
+        assetManager.load(SPRITE_ATLAS_PATH, TextureAtlas.class);
+        assetManager.finishLoadingAsset(SPRITE_ATLAS_PATH);
+        TextureAtlas atlas = assetManager.get(SPRITE_ATLAS_PATH, TextureAtlas.class);
+        for (TextureAtlas.AtlasRegion region : atlas.getRegions()) atlasRegions.put(region.name, region);
+        Gdx.app.log("AssetLoading", "Sprite atlas: " + atlasRegions.size + " regions on " + atlas.getTextures().size + " pages.");
+    }
+
+    // Sprites packed into the atlas need no texture of their own.
+    private void queueSprite(String path, String kind) {
+        if (atlasRegions.containsKey(atlasRegionName(path))) return;
+        if (Gdx.files.internal(path).exists()) assetManager.load(path, Texture.class);
+        else Gdx.app.log("AssetLoading", kind + " texture not found: " + path);
+    }
+
+    // The packer names each region after its image's path under assets/, minus the extension.
+    private static String atlasRegionName(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? path.substring(0, dot) : path;
+    }
+
+    private TextureRegion findLoadedRegion(String path) {
+        TextureRegion region = atlasRegions.get(atlasRegionName(path));
+        if (region != null) return region;
+        return assetManager.isLoaded(path, Texture.class) ? new TextureRegion(assetManager.get(path, Texture.class)) : null;
     }
 
 
     private void loadCharacterDataFromJson(String path) {
         FileHandle fileHandle = Gdx.files.internal(path);
-<<<<<<< HEAD
         if (!fileHandle.exists()) { Gdx.app.error("GameAssetManager", "Character data JSON not found: " + path); return; }
         allCharacters = new Json().fromJson(Array.class, CharacterData.class, fileHandle.readString());
-=======
-        if (!fileHandle.exists()) {
-            Gdx.app.error("GameAssetManager", "Character data JSON file not found: " + path);
-            return;
-        }
-        String jsonText = fileHandle.readString();
-        Json json = new Json();
-        allCharacters = json.fromJson(Array.class, CharacterData.class, jsonText);
-
-        for (CharacterData hero : allCharacters) {
-            Gdx.app.log("HeroLoaded", "Name: " + hero.getName() +
-                ", HP: " + hero.getHp() +
-                ", Speed: " + hero.getSpeed() +
-                ", Animations: " + hero.getAnimations().keys().toString());
-        }
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     }
 
     private void loadGunDataFromJson(String path) {
         FileHandle fileHandle = Gdx.files.internal(path);
-<<<<<<< HEAD
         if (!fileHandle.exists()) { Gdx.app.error("GameAssetManager", "Gun data JSON not found: " + path); return; }
         allGuns = new Json().fromJson(Array.class, GunData.class, fileHandle.readString());
-=======
-        if (!fileHandle.exists()) {
-            Gdx.app.error("GameAssetManager", "Gun data JSON file not found: " + path);
-            return;
-        }
-        String jsonText = fileHandle.readString();
-        Json json = new Json();
-        allGuns = json.fromJson(Array.class, GunData.class, jsonText);
-
-        for (GunData gun : allGuns) {
-            Gdx.app.log("GunLoaded", "Name: " + gun.getName() +
-                ", Damage: " + gun.getDamage() +
-                ", Animations: " + (gun.getAnimations() != null ? gun.getAnimations().keys().toString() : "None"));
-        }
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     }
 
     private void loadEnemyDataFromJson(String path) {
         FileHandle fileHandle = Gdx.files.internal(path);
-<<<<<<< HEAD
         if (!fileHandle.exists()) { Gdx.app.error("GameAssetManager", "Enemy data JSON not found: " + path); return; }
         allEnemies = new Json().fromJson(Array.class, EnemyData.class, fileHandle.readString());
     }
 
+    private void loadWaveScheduleFromJson(String path) {
+        FileHandle fileHandle = Gdx.files.internal(path);
+        if (!fileHandle.exists()) { Gdx.app.error("GameAssetManager", "Wave schedule JSON not found: " + path); return; }
+        waveSchedule = new Json().fromJson(WaveSchedule.class, fileHandle.readString());
+    }
+
     public Skin getSkin() { return skin; }
     public String getRandomAvatarPath() { return avatarImagePaths.size > 0 ? avatarImagePaths.random() : DEFAULT_AVATAR_PATH; }
     public String getRandomBackgroundPath() { return backgroundImagePaths.size > 0 ? backgroundImagePaths.random() : null; }
@@ -462,129 +382,6 @@ public class GameAssetManager {
             }
             Gdx.app.error("GameAssetManager", "Failed to load missing asset at runtime: " + filePath);
             return null;
-=======
-        if (!fileHandle.exists()) {
-            Gdx.app.error("GameAssetManager", "Enemy data JSON file not found: " + path);
-            return;
-        }
-        String jsonText = fileHandle.readString();
-        Json json = new Json();
-        allEnemies = json.fromJson(Array.class, EnemyData.class, jsonText);
-
-        for (EnemyData enemy : allEnemies) {
-            Gdx.app.log("EnemyLoaded", "Name: " + enemy.getName() +
-                ", HP: " + enemy.getHp() +
-                ", Speed: " + enemy.getSpeed() +
-                ", Animations: " + (enemy.getAnimations() != null ? enemy.getAnimations().keys().toString() : "None"));
-        }
-    }
-
-    public Skin getSkin() {
-        return skin;
-    }
-
-    public String getRandomAvatarPath() {
-        if (avatarImagePaths.size == 0) {
-            System.err.println("No specific avatar paths available. Returning default.");
-            return DEFAULT_AVATAR_PATH;
-        }
-        return avatarImagePaths.get(random.nextInt(avatarImagePaths.size));
-    }
-
-    public String getRandomBackgroundPath() {
-        if (backgroundImagePaths.size == 0) {
-            System.err.println("No background images loaded.");
-            return null;
-        }
-        return backgroundImagePaths.get(random.nextInt(backgroundImagePaths.size));
-    }
-
-    public Array<String> getAllAvatarPaths() {
-        return new Array<>(avatarImagePaths);
-    }
-
-    public CharacterData getCharacterDataByName(String name) {
-        for (CharacterData character : allCharacters) {
-            if (character.getName().equalsIgnoreCase(name)) {
-                return character;
-            }
-        }
-        Gdx.app.error("GameAssetManager", "CharacterData not found for name: " + name);
-        return null;
-    }
-
-    public Array<String> getAllCharacterNames() {
-        Array<String> names = new Array<>();
-        for (CharacterData character : allCharacters) {
-            names.add(character.getName());
-        }
-        return names;
-    }
-
-    public GunData getGunDataByName(String name) {
-        for (GunData gun : allGuns) {
-            if (gun.getName().equalsIgnoreCase(name)) {
-                return gun;
-            }
-        }
-        Gdx.app.error("GameAssetManager", "GunData not found for name: " + name);
-        return null;
-    }
-
-    public Array<String> getAllGunNames() {
-        Array<String> names = new Array<>();
-        for (GunData gun : allGuns) {
-            names.add(gun.getName());
-        }
-        return names;
-    }
-
-    public EnemyData getEnemyDataByName(String name) {
-        for (EnemyData enemy : allEnemies) {
-            if (enemy.getName().equalsIgnoreCase(name)) {
-                return enemy;
-            }
-        }
-        Gdx.app.error("GameAssetManager", "EnemyData not found for name: " + name);
-        return null;
-    }
-
-    public Array<String> getAllEnemyNames() {
-        Array<String> names = new Array<>();
-        for (EnemyData enemy : allEnemies) {
-            names.add(enemy.getName());
-        }
-        return names;
-    }
-
-    public Music getMusic(String path) {
-        return assetManager.get(path, Music.class);
-    }
-
-    public String getRandomMusicPath() {
-        if (musicPaths.size == 0) return null;
-        return musicPaths.random();
-    }
-
-    public Array<String> getMusicPaths() {
-        return new Array<>(musicPaths);
-    }
-
-    public AssetManager getAssetManager() {
-        return assetManager;
-    }
-
-    public <T> T get(String filePath, Class<T> type) {
-        if (!assetManager.isLoaded(filePath, type)) {
-            Gdx.app.error("GameAssetManager", "Asset not loaded or wrong type: " + filePath + " of type " + type.getSimpleName());
-            // Attempt to load and finish loading for missing asset, though it's better to preload
-            // assetManager.load(filePath, type);
-            // assetManager.finishLoadingAsset(filePath);
-            // if (!assetManager.isLoaded(filePath, type)) { // Check again after attempt
-            //     Gdx.app.error("GameAssetManager", "Failed to load missing asset at runtime: " + filePath);
-            //     return null;
-            // }
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
         }
         return assetManager.get(filePath, type);
     }
@@ -593,16 +390,14 @@ public class GameAssetManager {
         return get(path, Texture.class);
     }
 
-<<<<<<< HEAD
-=======
-    // NEW: Get TextureRegion for a specific asset path
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    /** The image's region in the sprite atlas if it was packed, otherwise a region covering its own texture. */
     public TextureRegion getTextureRegion(String path) {
+        TextureRegion region = atlasRegions.get(atlasRegionName(path));
+        if (region != null) return region;
         Texture texture = getTexture(path);
         return (texture != null) ? new TextureRegion(texture) : null;
     }
 
-<<<<<<< HEAD
     public void dispose() {
         Gdx.app.log("GameAssetManager", "Disposing assets.");
         if (skin != null) skin.dispose();
@@ -614,27 +409,13 @@ public class GameAssetManager {
         allDamageAnimationsData.clear();
         playerDamageAnimations.clear();
         enemyDamageAnimations.clear();
+        atlasRegions.clear();
         avatarImagePaths.clear();
         backgroundImagePaths.clear();
         musicPaths.clear();
         gameAssetManager = null; // Allow re-initialization if needed
     }
 
-    public Random getRandom() { return random; }
     public Array<EnemyData> getAllEnemyData() { return new Array<>(allEnemies); }
-=======
-
-    public void dispose() {
-        skin.dispose();
-        assetManager.dispose();
-    }
-
-    public Random getRandom() {
-        return random;
-    }
-
-    public Array<EnemyData> getAllEnemyData() {
-        return new Array<>(allEnemies);
-    }
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    public WaveSchedule getWaveSchedule() { return waveSchedule; }
 }
@@ -1,18 +1,11 @@
-<<<<<<< HEAD
 
-=======
-// model/GameSettings.java
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 package model;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.files.FileHandle;
-<<<<<<< HEAD
 import com.badlogic.gdx.math.MathUtils;
-=======
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.Array;
 
@@ -23,23 +16,22 @@ public class GameSettings {
     private Music currentMusic;
 
     private ObjectMap<String, Integer> keyBindings;
-<<<<<<< HEAD
     private boolean autoReloadEnabled;
     private boolean blackAndWhiteModeEnabled = false;
+    private int simulationRateHz = DEFAULT_SIMULATION_RATE_HZ;
+    private int maxSimulationStepsPerFrame = DEFAULT_MAX_SIMULATION_STEPS_PER_FRAME;
+    private int aiBudgetMicros = DEFAULT_AI_BUDGET_MICROS;
 
-    public GameSettings() {
-=======
-    private boolean autoReloadEnabled; // NEW: Auto reload setting
+    public static final int DEFAULT_SIMULATION_RATE_HZ = 60;
+    public static final int DEFAULT_MAX_SIMULATION_STEPS_PER_FRAME = 5;
+    public static final int DEFAULT_AI_BUDGET_MICROS = 2000;
 
     public GameSettings() {
-        // Initialize key bindings
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
         keyBindings = new ObjectMap<>();
         keyBindings.put("Move Up", Input.Keys.W);
         keyBindings.put("Move Left", Input.Keys.A);
         keyBindings.put("Move Down", Input.Keys.S);
         keyBindings.put("Move Right", Input.Keys.D);
-<<<<<<< HEAD
         keyBindings.put("Shoot", Input.Buttons.LEFT);
         keyBindings.put("Reload", Input.Keys.R);
         keyBindings.put("Pause", Input.Keys.ESCAPE);
@@ -57,32 +49,6 @@ public class GameSettings {
             currentMusic.stop();
             currentMusic.dispose();
             currentMusic = null;
-=======
-        keyBindings.put("Shoot", Input.Keys.SPACE); // Common for shooting (mouse click)
-        keyBindings.put("Jump", Input.Keys.ENTER); // Changed Jump to SPACE as it's common
-        keyBindings.put("Reload", Input.Keys.R); // NEW: Default Reload Key
-
-        // Initialize auto-reload setting
-        this.autoReloadEnabled = false; // NEW: Default to auto-reload off
-
-        // Initialize music track if not set, using first available if any
-        Array<String> availableTracks = getAvailableTracks();
-        if (currentMusicTrackName == null && availableTracks.size > 0) {
-            currentMusicTrackName = availableTracks.first();
-            playMusicTrack(currentMusicTrackName); // Start playing default music on startup
-        }
-    }
-
-    // Note: The App.getInstance().getMusicManager() calls from previous examples are removed
-    // as you've integrated music management directly into GameSettings.
-
-    public void playMusicTrack(String trackName) {
-        // Dispose of previous music to prevent memory leaks if switching tracks
-        if (currentMusic != null) {
-            currentMusic.stop();
-            currentMusic.dispose();
-            currentMusic = null; // Set to null after disposing
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
         }
 
         if (trackName == null || trackName.isEmpty()) {
@@ -91,32 +57,20 @@ public class GameSettings {
             return;
         }
 
-<<<<<<< HEAD
-        FileHandle musicFile = Gdx.files.internal("musics/" + trackName + ".ogg");
-        if (!musicFile.exists()) {
-=======
-        // Changed 'musics/' to match your provided path if it's "musics/filename.ogg"
         FileHandle musicFile = Gdx.files.internal("musics/" + trackName + ".ogg");
         if (!musicFile.exists()) {
-            // Also check for .mp3 or .wav if your files are mixed
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
             musicFile = Gdx.files.internal("musics/" + trackName + ".mp3");
             if (!musicFile.exists()) {
                 musicFile = Gdx.files.internal("musics/" + trackName + ".wav");
             }
         }
 
-<<<<<<< HEAD
-=======
-
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
         if (!musicFile.exists()) {
             Gdx.app.error("GameSettings", "Music file not found: " + musicFile.path());
             currentMusicTrackName = null;
             return;
         }
 
-<<<<<<< HEAD
         try {
             currentMusic = Gdx.audio.newMusic(musicFile);
             currentMusic.setLooping(true);
@@ -132,14 +86,6 @@ public class GameSettings {
             }
             currentMusicTrackName = null;
         }
-=======
-        currentMusic = Gdx.audio.newMusic(musicFile);
-        currentMusic.setLooping(true);
-        currentMusic.setVolume(musicVolume);
-        currentMusic.play();
-        currentMusicTrackName = trackName;
-        Gdx.app.log("GameSettings", "Playing music: " + trackName);
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     }
 
     public void stopMusic() {
@@ -150,19 +96,11 @@ public class GameSettings {
     }
 
     public void setMusicVolume(float musicVolume) {
-<<<<<<< HEAD
         this.musicVolume = MathUtils.clamp(musicVolume, 0f, 1f);
         if (currentMusic != null) {
             currentMusic.setVolume(this.musicVolume);
         }
         Gdx.app.log("GameSettings", "Music volume set to: " + this.musicVolume);
-=======
-        this.musicVolume = musicVolume;
-        if (currentMusic != null) {
-            currentMusic.setVolume(musicVolume);
-        }
-        Gdx.app.log("GameSettings", "Music volume set to: " + musicVolume);
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     }
 
     public float getMusicVolume() {
@@ -183,7 +121,6 @@ public class GameSettings {
     }
 
     public void setCurrentMusicTrack(String trackName) {
-<<<<<<< HEAD
         if (trackName != null && !trackName.equals(currentMusicTrackName)) {
             playMusicTrack(trackName);
         } else if (trackName == null && currentMusicTrackName != null) {
@@ -195,11 +132,6 @@ public class GameSettings {
     }
 
 
-=======
-        playMusicTrack(trackName);
-    }
-
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     public Music getMusic() {
         return currentMusic;
     }
@@ -209,7 +141,6 @@ public class GameSettings {
     }
 
     public void setKeyBinding(String action, int keyCode) {
-<<<<<<< HEAD
         if (action.equals("Shoot")) {
             if (keyCode != Input.Buttons.LEFT && keyCode != Input.Buttons.RIGHT && keyCode != Input.Buttons.MIDDLE) {
                 Gdx.app.error("GameSettings", "Cannot set non-mouse key for 'Shoot' action. Current key: " + getKeyName(keyCode));
@@ -220,31 +151,12 @@ public class GameSettings {
                 Gdx.app.error("GameSettings", "Cannot set mouse button for keyboard action '" + action + "'. Key: " + getKeyName(keyCode));
                 return;
             }
-=======
-        // Prevent setting a key binding to a mouse button for keyboard actions, and vice-versa
-        if (action.equals("Shoot")) {
-            // For "Shoot", allow only mouse buttons
-            if (keyCode != Input.Buttons.LEFT && keyCode != Input.Buttons.RIGHT && keyCode != Input.Buttons.MIDDLE) {
-                Gdx.app.error("GameSettings", "Cannot set non-mouse key for 'Shoot' action.");
-                return;
-            }
-        } else {
-            // For other actions, allow only keyboard keys
-//            if (keyCode >= Input.Keys.BUTTON_0) { // Mouse buttons start from Input.Keys.BUTTON_0
-//                Gdx.app.error("GameSettings", "Cannot set mouse key for keyboard action '" + action + "'.");
-//                return;
-//            }
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
         }
         keyBindings.put(action, keyCode);
         Gdx.app.log("GameSettings", "Key binding for '" + action + "' set to: " + getKeyName(keyCode));
     }
 
 
-<<<<<<< HEAD
-=======
-    // NEW: Getter and Setter for autoReloadEnabled
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     public boolean isAutoReloadEnabled() {
         return autoReloadEnabled;
     }
@@ -254,7 +166,6 @@ public class GameSettings {
         Gdx.app.log("GameSettings", "Auto-Reload set to: " + autoReloadEnabled);
     }
 
-<<<<<<< HEAD
 
     public boolean isBlackAndWhiteModeEnabled() {
         return blackAndWhiteModeEnabled;
@@ -265,6 +176,39 @@ public class GameSettings {
         Gdx.app.log("GameSettings", "Black and White Mode set to: " + blackAndWhiteModeEnabled);
     }
 
+    public int getSimulationRateHz() {
+        return simulationRateHz;
+    }
+
+    public void setSimulationRateHz(int simulationRateHz) {
+        this.simulationRateHz = MathUtils.clamp(simulationRateHz, 20, 240);
+        Gdx.app.log("GameSettings", "Simulation rate set to: " + this.simulationRateHz + " Hz");
+    }
+
+    /** Length of one fixed simulation step in seconds. */
+    public float getSimulationStepSeconds() {
+        return 1f / simulationRateHz;
+    }
+
+    public int getMaxSimulationStepsPerFrame() {
+        return maxSimulationStepsPerFrame;
+    }
+
+    public void setMaxSimulationStepsPerFrame(int maxSimulationStepsPerFrame) {
+        this.maxSimulationStepsPerFrame = Math.max(1, maxSimulationStepsPerFrame);
+        Gdx.app.log("GameSettings", "Max simulation steps per frame set to: " + this.maxSimulationStepsPerFrame);
+    }
+
+    /** Time per simulation tick the enemy AI scheduler is given, in microseconds. */
+    public int getAiBudgetMicros() {
+        return aiBudgetMicros;
+    }
+
+    public void setAiBudgetMicros(int aiBudgetMicros) {
+        this.aiBudgetMicros = MathUtils.clamp(aiBudgetMicros, 100, 16000);
+        Gdx.app.log("GameSettings", "AI budget set to: " + this.aiBudgetMicros + " us");
+    }
+
 
     public static String getKeyName(int keyCode) {
         if (keyCode == Input.Buttons.LEFT) return "Mouse Left";
@@ -283,30 +227,6 @@ public class GameSettings {
         if (musicDir.exists() && musicDir.isDirectory()) {
             for (FileHandle file : musicDir.list()) {
                 String extension = file.extension();
-=======
-    // Modified getKeyName to handle mouse buttons correctly
-    public static String getKeyName(int keyCode) {
-//        if (keyCode >= 0 && keyCode < Input.Keys.BUTTON_0) { // Standard keyboard keys
-//            return Input.Keys.toString(keyCode);
-//        }
-        if (keyCode == Input.Buttons.LEFT) {
-            return "Mouse Left";
-        } else if (keyCode == Input.Buttons.RIGHT) {
-            return "Mouse Right";
-        } else if (keyCode == Input.Buttons.MIDDLE) {
-            return "Mouse Middle";
-        }
-        return "Unknown";
-    }
-
-    public static Array<String> getAvailableTracks() {
-        Array<String> tracks = new Array<>();
-        FileHandle musicDir = Gdx.files.internal("musics/"); // Your music directory
-        if (musicDir.exists() && musicDir.isDirectory()) {
-            for (FileHandle file : musicDir.list()) {
-                String extension = file.extension();
-                // Check for common music file extensions
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
                 if (extension.equalsIgnoreCase("mp3") ||
                     extension.equalsIgnoreCase("ogg") ||
                     extension.equalsIgnoreCase("wav")) {
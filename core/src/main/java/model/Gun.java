@@ -1,14 +1,9 @@
-<<<<<<< HEAD
 
-=======
-// model/Gun.java
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 package model;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-<<<<<<< HEAD
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 
@@ -36,21 +31,12 @@ public class Gun {
     private float reloadStateTime;
 
     private Array<ActiveBuff> activeDamageBuffs;
-=======
-import com.badlogic.gdx.utils.ObjectMap;
-
-public class Gun {
-    private GunData gunData;
-    private ObjectMap<String, Animation<TextureRegion>> animations;
-    private int currentAmmo; // NEW: Current ammo in the magazine
-    private boolean isReloading; // NEW: State for reloading
-    private float reloadStateTime; // NEW: Time accumulator for reload animation
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    // Only one Damager buff is active at a time, so the same instance is reapplied.
+    private final ActiveBuff damageBuff = new ActiveBuff(Ability.DAMAGER, 0f, 1.0f);
 
     public Gun(GunData gunData, ObjectMap<String, Animation<TextureRegion>> animations) {
         this.gunData = gunData;
         this.animations = animations;
-<<<<<<< HEAD
 
         if (gunData != null) {
             this.baseDamage = gunData.getDamage();
@@ -70,11 +56,6 @@ public class Gun {
         this.isReloading = false;
         this.reloadStateTime = 0f;
         this.activeDamageBuffs = new Array<>();
-=======
-        this.currentAmmo = gunData.getMax_ammo(); // Initialize with max ammo
-        this.isReloading = false;
-        this.reloadStateTime = gunData.getReload_time();
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     }
 
     public GunData getGunData() {
@@ -89,7 +70,6 @@ public class Gun {
         return currentAmmo;
     }
 
-<<<<<<< HEAD
     public int getCurrentMaxAmmo() {
         return currentMaxAmmo;
     }
@@ -118,7 +98,6 @@ public class Gun {
         if (!isReloading && currentAmmo < currentMaxAmmo) {
             isReloading = true;
             reloadStateTime = 0f;
-            Gdx.app.log("Gun", (gunData != null ? gunData.getName() : "Unknown Gun") + " started reloading.");
         }
     }
 
@@ -134,82 +113,25 @@ public class Gun {
             }
 
             if (reloadStateTime >= actualReloadTime) {
-=======
-    // NEW: Method to reduce ammo when shooting
-    public void shoot() {
-        if (currentAmmo > 0 && !isReloading) {
-            currentAmmo--;
-            Gdx.app.log("Gun", "Fired " + gunData.getName() + ", Ammo left: " + currentAmmo);
-        } else if (currentAmmo == 0) {
-            Gdx.app.log("Gun", gunData.getName() + " is out of ammo. Reload!");
-        } else if (isReloading) {
-            Gdx.app.log("Gun", gunData.getName() + " is reloading...");
-        }
-    }
-
-    // NEW: Method to start reloading
-    public void startReload() {
-        if (!isReloading && currentAmmo < gunData.getMax_ammo()) {
-            isReloading = true;
-            reloadStateTime = 0f; // Reset reload animation time
-            Gdx.app.log("Gun", gunData.getName() + " started reloading.");
-        }
-    }
-
-    // NEW: Method to update reload state
-    public void updateReload(float delta) {
-        if (isReloading) {
-            reloadStateTime += delta;
-            Animation<TextureRegion> reloadAnimation = animations.get("reload");
-            if (reloadAnimation != null && reloadStateTime >= reloadAnimation.getAnimationDuration()) {
-                finishReload(); // Finish reload once animation completes
-            } else if (reloadAnimation == null && reloadStateTime >= gunData.getReload_time()) {
-                // If no specific reload animation, use fire_rate as a simple reload time
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
                 finishReload();
             }
         }
     }
 
-<<<<<<< HEAD
     private void finishReload() {
         isReloading = false;
         currentAmmo = currentMaxAmmo;
-        Gdx.app.log("Gun", (gunData != null ? gunData.getName() : "Unknown Gun") + " finished reloading. Ammo: " + currentAmmo);
     }
 
-=======
-    // NEW: Method to finish reloading
-    private void finishReload() {
-        isReloading = false;
-        currentAmmo = gunData.getMax_ammo();
-        Gdx.app.log("Gun", gunData.getName() + " finished reloading. Ammo: " + currentAmmo);
-    }
-
-    // NEW: Check if gun is currently reloading
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     public boolean isReloading() {
         return isReloading;
     }
 
-<<<<<<< HEAD
-=======
-    // NEW: Get current frame of reload animation
-    public TextureRegion getReloadAnimationFrame(float stateTime) {
-        Animation<TextureRegion> reloadAnimation = animations.get("reload");
-        if (reloadAnimation != null) {
-            return reloadAnimation.getKeyFrame(stateTime, false); // Not looping
-        }
-        return null;
-    }
-
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     public float getReloadStateTime() {
         return reloadStateTime;
     }
 
 
-<<<<<<< HEAD
     public void applyDamageBuff(float percentageIncrease, float duration) {
 
 
@@ -225,13 +147,13 @@ public class Gun {
         this.currentDamageMultiplier = 1.0f; // Reset to base before applying new buff
 
         this.currentDamageMultiplier *= (1.0f + percentageIncrease);
-        activeDamageBuffs.add(new ActiveBuff(Ability.DAMAGER, duration, 1.0f)); // Store original multiplier as 1.0f
-        Gdx.app.log("GunAbility", "Damager: Gun damage multiplier set to " + this.currentDamageMultiplier + " for " + duration + "s.");
+        damageBuff.durationRemaining = duration;
+        damageBuff.originalValue = 1.0f; // Store original multiplier as 1.0f
+        activeDamageBuffs.add(damageBuff);
     }
 
     public void increaseProjectiles(int amount) {
         this.currentProjectiles += amount;
-        Gdx.app.log("GunAbility", "Procrease: Gun projectiles increased to " + this.currentProjectiles);
     }
 
     public void increaseMaxAmmo(int amount) {
@@ -240,7 +162,6 @@ public class Gun {
         if (this.currentAmmo > this.currentMaxAmmo) {
             this.currentAmmo = this.currentMaxAmmo;
         }
-        Gdx.app.log("GunAbility", "Amocrease: Gun max ammo increased to " + this.currentMaxAmmo + ". Current ammo: " + this.currentAmmo);
     }
 
     public void updateBuffs(float delta) {
@@ -250,12 +171,9 @@ public class Gun {
             if (buff.durationRemaining <= 0) {
                 if (buff.ability == Ability.DAMAGER) {
                     this.currentDamageMultiplier = 1.0f; // Revert to no multiplier
-                    Gdx.app.log("GunAbility", "Damager expired. Gun damage multiplier reverted to " + this.currentDamageMultiplier);
                 }
                 activeDamageBuffs.removeIndex(i);
             }
         }
     }
-=======
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 }
@@ -0,0 +1,10 @@
+package model;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/** Marks an enemy that is stepped toward the player every tick (speed comes from its EnemyData). */
+public class MoverComponent implements Component, Pool.Poolable {
+    @Override
+    public void reset() {}
+}
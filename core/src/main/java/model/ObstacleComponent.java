@@ -0,0 +1,10 @@
+package model;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/** Marks a static enemy that chasers path around (see {@link FlowField}). */
+public class ObstacleComponent implements Component, Pool.Poolable {
+    @Override
+    public void reset() {}
+}
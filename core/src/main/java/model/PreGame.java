@@ -1,4 +1,3 @@
-<<<<<<< HEAD
 
 package model;
 
@@ -18,23 +17,6 @@ public class PreGame {
         else {
             this.username = "Guest";
         }
-=======
-// model/PreGame.java
-package model;
-
-/**
- * Manages the state and selections made in the pre-game menu.
- */
-public class PreGame {
-    private Player player; // The player chosen in the pre-game menu
-    private Gun selectedGun; // The gun chosen in the pre-game menu
-    private int gameDurationMinutes; // The selected game duration in minutes
-    private String username; // NEW: The username entered by the player
-
-    public PreGame() {
-        this.gameDurationMinutes = 5; // Default duration
-        this.username = "Guest"; // Default username
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     }
 
     public Player getPlayer() {
@@ -72,11 +54,7 @@ public class PreGame {
         System.out.println("PreGame: Game duration set to " + gameDurationMinutes + " minutes.");
     }
 
-<<<<<<< HEAD
 
-=======
-    // NEW: Getter and Setter for username
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
     public String getUsername() {
         return username;
     }
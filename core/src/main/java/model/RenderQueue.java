@@ -0,0 +1,190 @@
+package model;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.Arrays;
+
+/**
+ * Sprites collected over a frame and drawn in one pass, ordered by layer, then texture, then depth, then
+ * submission order. Batch flushes then depend on how many textures each layer uses, not on how sprites
+ * from different textures were interleaved when submitted. Depth-sorted layers ({@link #LAYER_ACTORS} by
+ * default) put depth before texture instead, so overlaps are right whatever the textures; with the sprite
+ * atlas they share one page anyway.
+ * Commands are parallel arrays reused every frame; each sort key packs layer, texture id, depth and slot,
+ * and is sorted with a stable radix sort, so sorting stays linear in the sprite count and allocates nothing.
+ */
+public class RenderQueue {
+    // Back to front. Actors (player, gun, enemies) share a layer so they can overlap by depth.
+    public static final int LAYER_ACTORS = 0;
+    public static final int LAYER_PLAYER_BULLETS = 1;
+    public static final int LAYER_ENEMY_BULLETS = 2;
+    public static final int LAYER_PICKUPS = 3;
+
+    private static final int SLOT_BITS = 24;
+    private static final int DEPTH_BITS = 16;
+    private static final int TEXTURE_BITS = 16;
+    private static final long SLOT_MASK = (1L << SLOT_BITS) - 1;
+    public static final int MAX_DEPTH = (1 << DEPTH_BITS) - 1;
+    private static final int MAX_TEXTURE_ID = (1 << TEXTURE_BITS) - 1;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_SIZE = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX_SIZE - 1;
+
+    private TextureRegion[] regions;
+    private float[] x;
+    private float[] y;
+    private float[] width;
+    private float[] height;
+    private float[] originX;
+    private float[] originY;
+    private float[] rotation;
+    private long[] keys;
+    private long[] sortScratch;
+    private final int[] radixCounts = new int[RADIX_SIZE];
+    private int size;
+
+    private int depthSortedLayers = 1 << LAYER_ACTORS;
+    // World y mapped to depth; the defaults cover any y with one-pixel steps until setDepthRange narrows it.
+    private float depthTop = MAX_DEPTH / 2f;
+    private float depthScale = 1f;
+
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+    private int lastSize;
+    private int lastTextureSwitches;
+    private int growCount;
+
+    public RenderQueue(int initialCapacity) {
+        int capacity = Math.max(8, initialCapacity);
+        regions = new TextureRegion[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        originX = new float[capacity];
+        originY = new float[capacity];
+        rotation = new float[capacity];
+        keys = new long[capacity];
+        sortScratch = new long[capacity];
+    }
+
+    /** Maps world y in [bottom, top] onto the depth range; call with the visible area before submitting a frame. */
+    public void setDepthRange(float bottom, float top) {
+        depthTop = top;
+        depthScale = top > bottom ? MAX_DEPTH / (top - bottom) : 1f;
+    }
+
+    /** Depth for a sprite whose base is at world {@code y}: higher up the screen is further back and drawn first. */
+    public int depthOf(float y) {
+        return (int) Math.max(0f, Math.min(MAX_DEPTH, (depthTop - y) * depthScale));
+    }
+
+    /** Whether the layer orders sprites by depth before texture. */
+    public void setDepthSorted(int layer, boolean depthSorted) {
+        if (depthSorted) depthSortedLayers |= 1 << layer;
+        else depthSortedLayers &= ~(1 << layer);
+    }
+
+    public void add(int layer, int depth, TextureRegion region, float drawX, float drawY, float drawWidth, float drawHeight) {
+        add(layer, depth, region, drawX, drawY, drawWidth, drawHeight, 0f, 0f, 0f);
+    }
+
+    /** {@code depth} orders sprites of one layer and texture, back to front, and is clamped to [0, {@link #MAX_DEPTH}]. */
+    public void add(int layer, int depth, TextureRegion region, float drawX, float drawY, float drawWidth, float drawHeight,
+                    float drawOriginX, float drawOriginY, float drawRotation) {
+        if (region == null) return;
+        if (size == keys.length) grow();
+        int i = size++;
+        regions[i] = region;
+        x[i] = drawX;
+        y[i] = drawY;
+        width[i] = drawWidth;
+        height[i] = drawHeight;
+        originX[i] = drawOriginX;
+        originY[i] = drawOriginY;
+        rotation[i] = drawRotation;
+        long clampedDepth = Math.max(0, Math.min(MAX_DEPTH, depth));
+        long texture = textureId(region.getTexture());
+        boolean depthFirst = (depthSortedLayers & (1 << layer)) != 0;
+        keys[i] = (long) layer << (SLOT_BITS + DEPTH_BITS + TEXTURE_BITS)
+            | (depthFirst ? clampedDepth : texture) << (SLOT_BITS + TEXTURE_BITS)
+            | (depthFirst ? texture : clampedDepth) << SLOT_BITS | i;
+    }
+
+    private int textureId(Texture texture) {
+        int id = textureIds.get(texture, -1);
+        if (id < 0) {
+            id = Math.min(textureIds.size, MAX_TEXTURE_ID);
+            textureIds.put(texture, id);
+        }
+        return id;
+    }
+
+    /** Sorts and draws everything submitted since the last call into the running batch, then empties the queue. */
+    public void draw(Batch batch) {
+        sortKeys();
+        Texture lastTexture = null;
+        int textureSwitches = 0;
+        for (int k = 0; k < size; k++) {
+            int i = (int) (keys[k] & SLOT_MASK);
+            TextureRegion region = regions[i];
+            if (region.getTexture() != lastTexture) {
+                lastTexture = region.getTexture();
+                textureSwitches++;
+            }
+            if (rotation[i] == 0f) batch.draw(region, x[i], y[i], width[i], height[i]);
+            else batch.draw(region, x[i], y[i], originX[i], originY[i], width[i], height[i], 1f, 1f, rotation[i]);
+            regions[i] = null;
+        }
+        lastSize = size;
+        lastTextureSwitches = textureSwitches;
+        size = 0;
+    }
+
+    // LSD radix sort, a byte per pass, of the bits above the slot. Slots are handed out in increasing order and the
+    // sort is stable, so the slot bits are already in order and need no pass; a byte every key shares is skipped.
+    private void sortKeys() {
+        long[] from = keys, to = sortScratch;
+        for (int shift = SLOT_BITS; shift < Long.SIZE && size > 1; shift += RADIX_BITS) {
+            Arrays.fill(radixCounts, 0);
+            for (int k = 0; k < size; k++) radixCounts[(int) (from[k] >>> shift) & RADIX_MASK]++;
+            if (radixCounts[(int) (from[0] >>> shift) & RADIX_MASK] == size) continue;
+            for (int digit = 0, sum = 0; digit < RADIX_SIZE; digit++) {
+                int count = radixCounts[digit];
+                radixCounts[digit] = sum;
+                sum += count;
+            }
+            for (int k = 0; k < size; k++) to[radixCounts[(int) (from[k] >>> shift) & RADIX_MASK]++] = from[k];
+            long[] swap = from;
+            from = to;
+            to = swap;
+        }
+        keys = from;
+        sortScratch = to;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        regions = Arrays.copyOf(regions, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        originX = Arrays.copyOf(originX, capacity);
+        originY = Arrays.copyOf(originY, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        sortScratch = new long[capacity];
+        growCount++;
+    }
+
+    public int size() { return size; }
+    /** Sprites drawn by the last {@link #draw(Batch)}. */
+    public int getLastSize() { return lastSize; }
+    /** Texture changes in the last draw, the floor on batch flushes it caused. */
+    public int getLastTextureSwitches() { return lastTextureSwitches; }
+    public int getCapacity() { return keys.length; }
+    public int getGrowCount() { return growCount; }
+}
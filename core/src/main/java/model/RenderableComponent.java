@@ -0,0 +1,14 @@
+package model;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class RenderableComponent implements Component, Pool.Poolable {
+    public static final int LAYER_ENEMY = RenderQueue.LAYER_ACTORS;
+    public static final int LAYER_PICKUP = RenderQueue.LAYER_PICKUPS;
+
+    public int layer;
+
+    @Override
+    public void reset() { layer = LAYER_ENEMY; }
+}
@@ -0,0 +1,121 @@
+package model;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * A recorded run: the setup needed to rebuild the same world (seed, hero, gun, duration, tick rate,
+ * starting viewport, auto-reload, AI budget) followed by one encoded {@link TickInput} per simulation tick.
+ */
+public class Replay {
+    private static final int MAGIC = 0x52504C31; // "RPL1"
+    // Version 1 files predate the AI budget and were recorded with the default one.
+    private static final int VERSION = 2;
+
+    private final long seed;
+    private final String heroName;
+    private final String gunName;
+    private final int gameDurationMinutes;
+    private final int simulationRateHz;
+    private final float viewportWidth;
+    private final float viewportHeight;
+    private final boolean autoReloadEnabled;
+    private final int aiBudgetMicros;
+    private final int tickCount;
+    private final byte[] tickData;
+
+    public Replay(long seed, String heroName, String gunName, int gameDurationMinutes, int simulationRateHz,
+                  float viewportWidth, float viewportHeight, boolean autoReloadEnabled, int aiBudgetMicros,
+                  int tickCount, byte[] tickData) {
+        this.seed = seed;
+        this.heroName = heroName;
+        this.gunName = gunName;
+        this.gameDurationMinutes = gameDurationMinutes;
+        this.simulationRateHz = simulationRateHz;
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+        this.autoReloadEnabled = autoReloadEnabled;
+        this.aiBudgetMicros = aiBudgetMicros;
+        this.tickCount = tickCount;
+        this.tickData = tickData;
+    }
+
+    public boolean save(FileHandle file) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(tickData.length + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+            out.writeUTF(heroName);
+            out.writeUTF(gunName);
+            out.writeInt(gameDurationMinutes);
+            out.writeInt(simulationRateHz);
+            out.writeFloat(viewportWidth);
+            out.writeFloat(viewportHeight);
+            out.writeBoolean(autoReloadEnabled);
+            out.writeInt(aiBudgetMicros);
+            out.writeInt(tickCount);
+            out.write(tickData);
+        } catch (IOException e) {
+            Gdx.app.error("Replay", "Failed to encode replay.", e);
+            return false;
+        }
+        file.writeBytes(bytes.toByteArray(), false);
+        Gdx.app.log("Replay", "Saved " + tickCount + " ticks (" + bytes.size() + " bytes) to " + file.path());
+        return true;
+    }
+
+    public static Replay load(FileHandle file) {
+        if (!file.exists()) {
+            Gdx.app.error("Replay", "Replay file not found: " + file.path());
+            return null;
+        }
+        byte[] bytes = file.readBytes();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC) {
+                Gdx.app.error("Replay", "Not a replay file: " + file.path());
+                return null;
+            }
+            int version = in.readUnsignedByte();
+            if (version < 1 || version > VERSION) {
+                Gdx.app.error("Replay", "Unsupported replay version " + version + " in " + file.path());
+                return null;
+            }
+            long seed = in.readLong();
+            String heroName = in.readUTF();
+            String gunName = in.readUTF();
+            int gameDurationMinutes = in.readInt();
+            int simulationRateHz = in.readInt();
+            float viewportWidth = in.readFloat();
+            float viewportHeight = in.readFloat();
+            boolean autoReloadEnabled = in.readBoolean();
+            int aiBudgetMicros = version >= 2 ? in.readInt() : GameSettings.DEFAULT_AI_BUDGET_MICROS;
+            int tickCount = in.readInt();
+            byte[] tickData = new byte[in.available()];
+            in.readFully(tickData);
+            return new Replay(seed, heroName, gunName, gameDurationMinutes, simulationRateHz,
+                viewportWidth, viewportHeight, autoReloadEnabled, aiBudgetMicros, tickCount, tickData);
+        } catch (IOException e) {
+            Gdx.app.error("Replay", "Failed to read replay " + file.path(), e);
+            return null;
+        }
+    }
+
+    public long getSeed() { return seed; }
+    public String getHeroName() { return heroName; }
+    public String getGunName() { return gunName; }
+    public int getGameDurationMinutes() { return gameDurationMinutes; }
+    public int getSimulationRateHz() { return simulationRateHz; }
+    public float getViewportWidth() { return viewportWidth; }
+    public float getViewportHeight() { return viewportHeight; }
+    public boolean isAutoReloadEnabled() { return autoReloadEnabled; }
+    public int getAiBudgetMicros() { return aiBudgetMicros; }
+    public int getTickCount() { return tickCount; }
+    public byte[] getTickData() { return tickData; }
+}
@@ -1,46 +1,48 @@
-<<<<<<< HEAD
 
-=======
-// model/Seed.java
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 package model;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
 
-<<<<<<< HEAD
 
-public class Seed {
+public class Seed implements Pool.Poolable {
     private float x, y;
     private TextureRegion textureRegion;
     private int xpValue;
-    private static final float DRAW_SIZE = 30f;
-=======
-/**
- * Represents a collectible seed dropped by a defeated enemy.
- */
-public class Seed {
-    private float x, y;
-    private TextureRegion textureRegion;
-    private int xpValue; // How much XP this seed grants
-    private static final float DRAW_SIZE = 30f; // Standard size for the seed
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
+    public static final float DRAW_SIZE = 30f;
+    private final Rectangle bounds = new Rectangle();
+
+    public Seed() {}
 
     public Seed(float x, float y, TextureRegion textureRegion, int xpValue) {
+        init(x, y, textureRegion, xpValue);
+    }
+
+    public Seed init(float x, float y, TextureRegion textureRegion, int xpValue) {
         this.x = x;
         this.y = y;
         this.textureRegion = textureRegion;
         this.xpValue = xpValue;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        x = 0f;
+        y = 0f;
+        textureRegion = null;
+        xpValue = 0;
     }
 
-    public void draw(SpriteBatch batch) {
-        batch.draw(textureRegion, x, y, DRAW_SIZE, DRAW_SIZE);
+    public void draw(RenderQueue queue, int layer) {
+        queue.add(layer, queue.depthOf(y), textureRegion, x, y, DRAW_SIZE, DRAW_SIZE);
     }
 
     public Rectangle getBounds() {
-        return new Rectangle(x, y, DRAW_SIZE, DRAW_SIZE);
+        return bounds.set(x, y, DRAW_SIZE, DRAW_SIZE);
     }
 
     public int getXpValue() {
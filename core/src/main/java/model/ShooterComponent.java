@@ -0,0 +1,11 @@
+package model;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+public class ShooterComponent implements Component, Pool.Poolable {
+    public int bulletSpeed;
+
+    @Override
+    public void reset() { bulletSpeed = 0; }
+}
@@ -0,0 +1,97 @@
+package model;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * Uniform world-space hash grid used as a collision broadphase.
+ * Entries are plain int ids (usually an index into the caller's own list) bucketed by the cell
+ * containing their center, so every entry lives in exactly one bucket and queries never return duplicates.
+ */
+public class SpatialHashGrid {
+    // Crowds around the player put a few dozen enemies in one cell; prewarmed buckets start big enough for that.
+    private static final int PREWARM_BUCKET_CAPACITY = 32;
+
+    private final float cellSize;
+    private final float inverseCellSize;
+    private final LongMap<IntArray> cells;
+    private final Array<IntArray> freeBuckets;
+
+    private float maxHalfWidth;
+    private float maxHalfHeight;
+    private int size;
+
+    public SpatialHashGrid(float cellSize) {
+        this.cellSize = cellSize > 0 ? cellSize : 128f;
+        this.inverseCellSize = 1f / this.cellSize;
+        this.cells = new LongMap<>(64);
+        this.freeBuckets = new Array<>(false, 64);
+    }
+
+    public void clear() {
+        LongMap.Values<IntArray> buckets = cells.values();
+        while (buckets.hasNext()) {
+            IntArray bucket = buckets.next();
+            bucket.clear();
+            freeBuckets.add(bucket);
+        }
+        cells.clear();
+        maxHalfWidth = 0f;
+        maxHalfHeight = 0f;
+        size = 0;
+    }
+
+    /** Creates spare buckets up front so a grid holding up to {@code buckets} occupied cells allocates none mid-run. */
+    public void prewarm(int buckets) {
+        cells.ensureCapacity(buckets);
+        freeBuckets.ensureCapacity(buckets);
+        for (int i = cells.size + freeBuckets.size; i < buckets; i++) freeBuckets.add(new IntArray(false, PREWARM_BUCKET_CAPACITY));
+    }
+
+    public void insert(int id, float x, float y, float width, float height) {
+        float halfWidth = width / 2f;
+        float halfHeight = height / 2f;
+        long key = key(cell(x + halfWidth), cell(y + halfHeight));
+        IntArray bucket = cells.get(key);
+        if (bucket == null) {
+            bucket = freeBuckets.size > 0 ? freeBuckets.pop() : new IntArray(false, 8);
+            cells.put(key, bucket);
+        }
+        bucket.add(id);
+        if (halfWidth > maxHalfWidth) maxHalfWidth = halfWidth;
+        if (halfHeight > maxHalfHeight) maxHalfHeight = halfHeight;
+        size++;
+    }
+
+    /**
+     * Appends to {@code out} the ids of every entry whose bounds may overlap the given rectangle.
+     * Candidates still need an exact overlap test; {@code out} is not cleared first.
+     */
+    public void query(float x, float y, float width, float height, IntArray out) {
+        if (size == 0) return;
+        int minCellX = cell(x - maxHalfWidth);
+        int maxCellX = cell(x + width + maxHalfWidth);
+        int minCellY = cell(y - maxHalfHeight);
+        int maxCellY = cell(y + height + maxHalfHeight);
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                IntArray bucket = cells.get(key(cellX, cellY));
+                if (bucket != null) out.addAll(bucket);
+            }
+        }
+    }
+
+    public float getCellSize() { return cellSize; }
+    public int size() { return size; }
+    public int getOccupiedCellCount() { return cells.size; }
+
+    private int cell(float coordinate) {
+        return MathUtils.floor(coordinate * inverseCellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xffffffffL);
+    }
+}
@@ -0,0 +1,91 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Enemy spawns waiting to be placed, first in first out, kept as parallel primitive arrays in a ring buffer.
+ * Each request carries the simulation time it became due so the delay before placement can be measured,
+ * and requests are counted per enemy type so caps can include what is still queued.
+ */
+public class SpawnQueue {
+    private int[] typeIds;
+    private boolean[] nearPlayer;
+    private float[] dueTimes;
+    private int head;
+    private int size;
+    private int[] pendingByType = new int[0];
+
+    private int peakSize;
+    private int growCount;
+
+    public SpawnQueue(int initialCapacity) {
+        int capacity = Math.max(8, initialCapacity);
+        this.typeIds = new int[capacity];
+        this.nearPlayer = new boolean[capacity];
+        this.dueTimes = new float[capacity];
+    }
+
+    public void add(int typeId, boolean placeNearPlayer, float dueTime) {
+        if (size == typeIds.length) grow();
+        int i = (head + size++) % typeIds.length;
+        typeIds[i] = typeId;
+        nearPlayer[i] = placeNearPlayer;
+        dueTimes[i] = dueTime;
+        if (typeId >= pendingByType.length) {
+            int[] grown = new int[typeId + 1];
+            System.arraycopy(pendingByType, 0, grown, 0, pendingByType.length);
+            pendingByType = grown;
+        }
+        pendingByType[typeId]++;
+        if (size > peakSize) peakSize = size;
+    }
+
+    /**
+     * Grows the buffer up front so a wave of {@code capacity} requests does not resize it mid-run, and sizes the
+     * per-type counts for type ids below {@code typeCount}.
+     */
+    public void ensureCapacity(int capacity, int typeCount) {
+        if (capacity > typeIds.length) resize(capacity);
+        if (typeCount > pendingByType.length) pendingByType = Arrays.copyOf(pendingByType, typeCount);
+    }
+
+    private void grow() {
+        resize(typeIds.length * 2);
+        growCount++;
+    }
+
+    // Unrolls the ring so the oldest request sits at index 0 of the larger arrays.
+    private void resize(int capacity) {
+        int[] newTypeIds = new int[capacity];
+        boolean[] newNearPlayer = new boolean[capacity];
+        float[] newDueTimes = new float[capacity];
+        for (int i = 0; i < size; i++) {
+            int from = (head + i) % typeIds.length;
+            newTypeIds[i] = typeIds[from];
+            newNearPlayer[i] = nearPlayer[from];
+            newDueTimes[i] = dueTimes[from];
+        }
+        typeIds = newTypeIds;
+        nearPlayer = newNearPlayer;
+        dueTimes = newDueTimes;
+        head = 0;
+    }
+
+    /** Drops the oldest request; read it with the {@code peek} methods first. */
+    public void removeFirst() {
+        if (size == 0) return;
+        pendingByType[typeIds[head]]--;
+        head = (head + 1) % typeIds.length;
+        size--;
+    }
+
+    public int peekTypeId() { return typeIds[head]; }
+    public boolean peekNearPlayer() { return nearPlayer[head]; }
+    public float peekDueTime() { return dueTimes[head]; }
+    public int getPendingCount(int typeId) { return typeId >= 0 && typeId < pendingByType.length ? pendingByType[typeId] : 0; }
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public int getPeakSize() { return peakSize; }
+    public int getCapacity() { return typeIds.length; }
+    public int getGrowCount() { return growCount; }
+}
@@ -0,0 +1,123 @@
+package model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Everything the player did during one simulation tick. Live play and replays both drive the world
+ * through this, so a recorded stream of these reproduces a run exactly.
+ * Movement is held across ticks; the other actions fire once and are cleared by {@link #clearActions()}.
+ */
+public class TickInput {
+    public static final int CHEAT_ADVANCE_TIME = 1;
+    public static final int CHEAT_LEVEL_UP = 2;
+    public static final int CHEAT_ADD_HP = 3;
+    public static final int CHEAT_SPAWN_BOSS = 4;
+    public static final int CHEAT_KILL_ENEMIES = 5;
+    public static final int CHEAT_TOGGLE_SPATIAL_HASH = 6;
+
+    private static final int MOVE_UP = 1;
+    private static final int MOVE_DOWN = 1 << 1;
+    private static final int MOVE_LEFT = 1 << 2;
+    private static final int MOVE_RIGHT = 1 << 3;
+    private static final int SHOOT = 1 << 4;
+    private static final int RELOAD = 1 << 5;
+    private static final int ABILITY = 1 << 6;
+    private static final int EVENTS = 1 << 7;
+    private static final int MOVE_MASK = MOVE_UP | MOVE_DOWN | MOVE_LEFT | MOVE_RIGHT;
+
+    private static final int EVENT_CHEAT = 1;
+    private static final int EVENT_VIEWPORT = 1 << 1;
+
+    private int flags;
+    private float aimX, aimY;
+    private Ability ability;
+    private int cheat;
+    private boolean viewportChanged;
+    private float viewportWidth, viewportHeight;
+
+    public void setMovement(boolean up, boolean down, boolean left, boolean right) {
+        flags &= ~MOVE_MASK;
+        if (up) flags |= MOVE_UP;
+        if (down) flags |= MOVE_DOWN;
+        if (left) flags |= MOVE_LEFT;
+        if (right) flags |= MOVE_RIGHT;
+    }
+
+    public void shoot(float targetWorldX, float targetWorldY) {
+        flags |= SHOOT;
+        aimX = targetWorldX;
+        aimY = targetWorldY;
+    }
+
+    public void reload() { flags |= RELOAD; }
+
+    public void chooseAbility(Ability chosen) {
+        flags |= ABILITY;
+        ability = chosen;
+    }
+
+    public void cheat(int cheatCode) {
+        flags |= EVENTS;
+        cheat = cheatCode;
+    }
+
+    public void resizeViewport(float width, float height) {
+        flags |= EVENTS;
+        viewportChanged = true;
+        viewportWidth = width;
+        viewportHeight = height;
+    }
+
+    /** Drops everything except the held movement keys. */
+    public void clearActions() {
+        flags &= MOVE_MASK;
+        ability = null;
+        cheat = 0;
+        viewportChanged = false;
+    }
+
+    public boolean isMoveUp() { return (flags & MOVE_UP) != 0; }
+    public boolean isMoveDown() { return (flags & MOVE_DOWN) != 0; }
+    public boolean isMoveLeft() { return (flags & MOVE_LEFT) != 0; }
+    public boolean isMoveRight() { return (flags & MOVE_RIGHT) != 0; }
+    public boolean isShooting() { return (flags & SHOOT) != 0; }
+    public boolean isReloading() { return (flags & RELOAD) != 0; }
+    public float getAimX() { return aimX; }
+    public float getAimY() { return aimY; }
+    public Ability getAbility() { return ability; }
+    public int getCheat() { return cheat; }
+    public boolean hasViewportChange() { return viewportChanged; }
+    public float getViewportWidth() { return viewportWidth; }
+    public float getViewportHeight() { return viewportHeight; }
+
+    // One flag byte per tick; aim, ability and events only follow when their flag is set.
+    public void write(DataOutputStream out) throws IOException {
+        out.writeByte(flags);
+        if ((flags & SHOOT) != 0) { out.writeFloat(aimX); out.writeFloat(aimY); }
+        if ((flags & ABILITY) != 0) out.writeByte(ability.ordinal());
+        if ((flags & EVENTS) != 0) {
+            int events = (cheat != 0 ? EVENT_CHEAT : 0) | (viewportChanged ? EVENT_VIEWPORT : 0);
+            out.writeByte(events);
+            if (cheat != 0) out.writeByte(cheat);
+            if (viewportChanged) { out.writeFloat(viewportWidth); out.writeFloat(viewportHeight); }
+        }
+    }
+
+    public void read(DataInputStream in) throws IOException {
+        clearActions();
+        flags = in.readUnsignedByte();
+        if ((flags & SHOOT) != 0) { aimX = in.readFloat(); aimY = in.readFloat(); }
+        if ((flags & ABILITY) != 0) ability = Ability.values()[in.readUnsignedByte()];
+        if ((flags & EVENTS) != 0) {
+            int events = in.readUnsignedByte();
+            if ((events & EVENT_CHEAT) != 0) cheat = in.readUnsignedByte();
+            if ((events & EVENT_VIEWPORT) != 0) {
+                viewportChanged = true;
+                viewportWidth = in.readFloat();
+                viewportHeight = in.readFloat();
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package model;
+
+/**
+ * One spawn rule from {@code waves.json}. Times are fractions of the run so the same schedule scales to
+ * any run length; a rule with no interval fires once at its start. Each wave spawns
+ * {@code floor((count_elapsed * t + count_duration * T + count_constant) / count_divisor)} enemies,
+ * at least {@code min_count}, where t is the wave's time and T the run length, both in seconds.
+ */
+public class WaveRule {
+    private String enemy;
+    private String placement;
+    private float start;
+    private float end;
+    private float interval;
+    private float interval_decay;
+    private float min_interval;
+    private float count_elapsed;
+    private float count_duration;
+    private float count_constant;
+    private float count_divisor;
+    private int min_count;
+    private int initial;
+    private int cap;
+
+    public WaveRule() {}
+
+    public String getEnemy() {
+        return enemy;
+    }
+
+    /** "edge" spawns just off-screen, "near" somewhere around the player. */
+    public String getPlacement() {
+        return placement;
+    }
+
+    public float getStart() {
+        return start;
+    }
+
+    /** Fraction of the run after which the rule stops; 0 means it runs to the end. */
+    public float getEnd() {
+        return end;
+    }
+
+    public float getInterval() {
+        return interval;
+    }
+
+    /** How much of the interval has been taken off by the end of the run, shrinking linearly. */
+    public float getInterval_decay() {
+        return interval_decay;
+    }
+
+    public float getMin_interval() {
+        return min_interval;
+    }
+
+    public float getCount_elapsed() {
+        return count_elapsed;
+    }
+
+    public float getCount_duration() {
+        return count_duration;
+    }
+
+    public float getCount_constant() {
+        return count_constant;
+    }
+
+    public float getCount_divisor() {
+        return count_divisor;
+    }
+
+    public int getMin_count() {
+        return min_count;
+    }
+
+    /** Enemies spawned as soon as the run starts, before the first timed wave. */
+    public int getInitial() {
+        return initial;
+    }
+
+    /** Most enemies of this type alive at once; 0 for no limit. */
+    public int getCap() {
+        return cap;
+    }
+
+    public void setEnemy(String enemy) { this.enemy = enemy; }
+    public void setPlacement(String placement) { this.placement = placement; }
+    public void setStart(float start) { this.start = start; }
+    public void setEnd(float end) { this.end = end; }
+    public void setInterval(float interval) { this.interval = interval; }
+    public void setInterval_decay(float interval_decay) { this.interval_decay = interval_decay; }
+    public void setMin_interval(float min_interval) { this.min_interval = min_interval; }
+    public void setCount_elapsed(float count_elapsed) { this.count_elapsed = count_elapsed; }
+    public void setCount_duration(float count_duration) { this.count_duration = count_duration; }
+    public void setCount_constant(float count_constant) { this.count_constant = count_constant; }
+    public void setCount_divisor(float count_divisor) { this.count_divisor = count_divisor; }
+    public void setMin_count(int min_count) { this.min_count = min_count; }
+    public void setInitial(int initial) { this.initial = initial; }
+    public void setCap(int cap) { this.cap = cap; }
+}
@@ -0,0 +1,22 @@
+package model;
+
+import com.badlogic.gdx.utils.Array;
+
+/** Contents of {@code waves.json}: the spawn rules for a run and the cap on living enemies. */
+public class WaveSchedule {
+    private int max_live_enemies;
+    private Array<WaveRule> waves;
+
+    public WaveSchedule() {}
+
+    public int getMax_live_enemies() {
+        return max_live_enemies;
+    }
+
+    public Array<WaveRule> getWaves() {
+        return waves;
+    }
+
+    public void setMax_live_enemies(int max_live_enemies) { this.max_live_enemies = max_live_enemies; }
+    public void setWaves(Array<WaveRule> waves) { this.waves = waves; }
+}
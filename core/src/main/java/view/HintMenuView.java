@@ -1,6 +1,5 @@
 package view;
 
-<<<<<<< HEAD
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
@@ -250,7 +249,4 @@ public class HintMenuView implements Screen {
     public void setAbilityInfo(Array<Map<String, String>> abilityInfo) {
         this.abilityInfo = abilityInfo;
     }
-=======
-public class HintMenuView {
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86
 }
@@ -0,0 +1,91 @@
+package view;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+/**
+ * One line of HUD text kept in a {@link BitmapFontCache}. The text is rebuilt and laid out again only when a value
+ * it shows changes; other frames just move the cached glyphs into place and copy their vertices to the batch.
+ * Integers are appended to a reused {@link StringBuilder}, so neither path formats or boxes anything.
+ */
+public class HudLabel {
+    private static final int KIND_TEXT = 0;
+    private static final int KIND_VALUE = 1;
+    private static final int KIND_VALUES = 2;
+    private static final int KIND_CLOCK = 3;
+
+    private final BitmapFontCache cache;
+    private final StringBuilder text = new StringBuilder(32);
+
+    // What the cache currently shows; labels compare constant strings by reference.
+    private int kind = -1;
+    private String prefix, separator, suffix;
+    private int first, second;
+
+    private float width;
+    private float height;
+
+    public HudLabel(BitmapFont font) {
+        cache = font.newFontCache();
+    }
+
+    public void setText(String label) {
+        set(KIND_TEXT, label, 0, null, 0, null);
+    }
+
+    public void setValue(String prefix, int value) {
+        set(KIND_VALUE, prefix, value, null, 0, null);
+    }
+
+    public void setValues(String prefix, int first, String separator, int second, String suffix) {
+        set(KIND_VALUES, prefix, first, separator, second, suffix);
+    }
+
+    /** Shows {@code totalSeconds} as mm:ss after the prefix. */
+    public void setClock(String prefix, int totalSeconds) {
+        set(KIND_CLOCK, prefix, totalSeconds / 60, ":", totalSeconds % 60, null);
+    }
+
+    private void set(int kind, String prefix, int first, String separator, int second, String suffix) {
+        if (kind == this.kind && prefix == this.prefix && first == this.first
+            && separator == this.separator && second == this.second && suffix == this.suffix) return;
+        this.kind = kind;
+        this.prefix = prefix;
+        this.first = first;
+        this.separator = separator;
+        this.second = second;
+        this.suffix = suffix;
+
+        text.setLength(0);
+        if (prefix != null) text.append(prefix);
+        if (kind == KIND_CLOCK) {
+            appendTwoDigits(first);
+            text.append(separator);
+            appendTwoDigits(second);
+        } else if (kind != KIND_TEXT) {
+            text.append(first);
+            if (kind == KIND_VALUES) text.append(separator).append(second);
+        }
+        if (suffix != null) text.append(suffix);
+
+        GlyphLayout layout = cache.setText(text, 0f, 0f);
+        width = layout.width;
+        height = layout.height;
+    }
+
+    private void appendTwoDigits(int value) {
+        if (value < 10) text.append('0');
+        text.append(value);
+    }
+
+    /** Draws with the top-left of the text at ({@code x}, {@code y}), as {@link BitmapFont#draw} would. */
+    public void draw(Batch batch, float x, float y) {
+        cache.setPosition(x, y);
+        cache.draw(batch);
+    }
+
+    public float getWidth() { return width; }
+    public float getHeight() { return height; }
+}
@@ -0,0 +1,160 @@
+package view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * GL statistics for each frame of {@link GameView}, split by render phase. Draw calls, texture binds, shader
+ * switches and vertices come from libGDX's {@link GLProfiler}; batch flushes and the largest batch come from the
+ * {@link SpriteBatch} counters. A phase is the difference between {@link #beginPhase} and {@link #endPhase}.
+ * The last finished frame is kept for the overlay, and each frame can be appended to a CSV file.
+ */
+public class RenderProfiler {
+    public static final int PHASE_BACKGROUND = 0;
+    public static final int PHASE_WORLD = 1;
+    public static final int PHASE_HUD = 2;
+    public static final int PHASE_STAGES = 3;
+    public static final int PHASE_COUNT = 4;
+    private static final String[] PHASE_NAMES = { "background", "world", "hud", "stages" };
+
+    private static final int STAT_DRAW_CALLS = 0;
+    private static final int STAT_TEXTURE_BINDINGS = 1;
+    private static final int STAT_SHADER_SWITCHES = 2;
+    private static final int STAT_VERTICES = 3;
+    private static final int STAT_BATCH_FLUSHES = 4;
+    private static final int STAT_COUNT = 5;
+    private static final String[] STAT_NAMES = { "draw_calls", "texture_bindings", "shader_switches", "vertices", "batch_flushes" };
+
+    private GLProfiler glProfiler;
+    private boolean enabled;
+
+    private final int[][] current = new int[PHASE_COUNT][STAT_COUNT];
+    private final int[][] last = new int[PHASE_COUNT][STAT_COUNT];
+    private final int[] phaseStart = new int[STAT_COUNT];
+    private final int[] phaseEnd = new int[STAT_COUNT];
+    private int lastMaxSpritesInBatch;
+    private long frame;
+
+    private Writer csv;
+    private FileHandle csvFile;
+    private long csvLines;
+    private final StringBuilder line = new StringBuilder(256);
+
+    public void setEnabled(boolean enabled) {
+        if (enabled == this.enabled) return;
+        this.enabled = enabled;
+        if (enabled) {
+            if (glProfiler == null) glProfiler = new GLProfiler(Gdx.graphics);
+            glProfiler.enable();
+        } else {
+            stopCsv();
+            glProfiler.disable();
+        }
+    }
+
+    public void beginFrame(SpriteBatch batch) {
+        if (!enabled) return;
+        glProfiler.reset();
+        batch.maxSpritesInBatch = 0;
+        for (int[] phase : current) Arrays.fill(phase, 0);
+    }
+
+    public void beginPhase(SpriteBatch batch) {
+        if (!enabled) return;
+        read(batch, phaseStart);
+    }
+
+    // Flushes so sprites queued during the phase are counted in it; the next texture switch would flush them anyway.
+    public void endPhase(int phase, SpriteBatch batch) {
+        if (!enabled) return;
+        if (batch.isDrawing()) batch.flush();
+        read(batch, phaseEnd);
+        for (int i = 0; i < STAT_COUNT; i++) current[phase][i] += phaseEnd[i] - phaseStart[i];
+    }
+
+    public void endFrame(SpriteBatch batch, float delta) {
+        if (!enabled) return;
+        for (int phase = 0; phase < PHASE_COUNT; phase++) System.arraycopy(current[phase], 0, last[phase], 0, STAT_COUNT);
+        lastMaxSpritesInBatch = batch.maxSpritesInBatch;
+        frame++;
+        if (csv != null) writeCsvLine(delta);
+    }
+
+    private void read(SpriteBatch batch, int[] out) {
+        out[STAT_DRAW_CALLS] = glProfiler.getDrawCalls();
+        out[STAT_TEXTURE_BINDINGS] = glProfiler.getTextureBindings();
+        out[STAT_SHADER_SWITCHES] = glProfiler.getShaderSwitches();
+        out[STAT_VERTICES] = (int) glProfiler.getVertexCount().total;
+        out[STAT_BATCH_FLUSHES] = batch.totalRenderCalls;
+    }
+
+    /** Starts appending one line per profiled frame to {@code file}, turning profiling on if needed. */
+    public void startCsv(FileHandle file) {
+        stopCsv();
+        setEnabled(true);
+        try {
+            csv = file.writer(false);
+            line.setLength(0);
+            line.append("frame,delta_ms");
+            for (int phase = 0; phase < PHASE_COUNT; phase++) {
+                for (int stat = 0; stat < STAT_COUNT; stat++) line.append(',').append(PHASE_NAMES[phase]).append('_').append(STAT_NAMES[stat]);
+            }
+            line.append(",max_sprites_in_batch\n");
+            csv.append(line);
+            csvFile = file;
+            csvLines = 0;
+            Gdx.app.log("RenderProfiler", "Logging render stats to " + file.path());
+        } catch (GdxRuntimeException | IOException e) {
+            Gdx.app.error("RenderProfiler", "Could not open " + file.path() + " for render stats.", e);
+            closeCsv();
+        }
+    }
+
+    public void stopCsv() {
+        if (csv == null) return;
+        Gdx.app.log("RenderProfiler", "Wrote " + csvLines + " frames of render stats to " + csvFile.path());
+        closeCsv();
+    }
+
+    private void writeCsvLine(float delta) {
+        line.setLength(0);
+        line.append(frame).append(',').append(delta * 1000f);
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            for (int stat = 0; stat < STAT_COUNT; stat++) line.append(',').append(last[phase][stat]);
+        }
+        line.append(',').append(lastMaxSpritesInBatch).append('\n');
+        try {
+            csv.append(line);
+            csvLines++;
+        } catch (IOException e) {
+            Gdx.app.error("RenderProfiler", "Failed writing render stats to " + csvFile.path() + ". Stopping.", e);
+            closeCsv();
+        }
+    }
+
+    private void closeCsv() {
+        if (csv != null) {
+            try { csv.close(); }
+            catch (IOException e) { Gdx.app.error("RenderProfiler", "Failed closing " + (csvFile != null ? csvFile.path() : "render stats file") + ".", e); }
+        }
+        csv = null;
+        csvFile = null;
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public boolean isLoggingCsv() { return csv != null; }
+    public String getPhaseName(int phase) { return PHASE_NAMES[phase]; }
+    public int getDrawCalls(int phase) { return last[phase][STAT_DRAW_CALLS]; }
+    public int getTextureBindings(int phase) { return last[phase][STAT_TEXTURE_BINDINGS]; }
+    public int getShaderSwitches(int phase) { return last[phase][STAT_SHADER_SWITCHES]; }
+    public int getVertices(int phase) { return last[phase][STAT_VERTICES]; }
+    public int getBatchFlushes(int phase) { return last[phase][STAT_BATCH_FLUSHES]; }
+    public int getMaxSpritesInBatch() { return lastMaxSpritesInBatch; }
+}
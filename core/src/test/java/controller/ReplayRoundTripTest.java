@@ -0,0 +1,171 @@
+package controller;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import model.BulletStore;
+import model.CharacterData;
+import model.Enemy;
+import model.GameAssetManager;
+import model.GameSettings;
+import model.Gun;
+import model.GunData;
+import model.HeadlessGdx;
+import model.Player;
+import model.Replay;
+import model.TickInput;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+// Records a seeded run played by the same autopilot as the headless launcher, saves and reloads the replay,
+// then plays it back into a fresh world and expects exactly the same end state.
+public class ReplayRoundTripTest {
+    private static final long SEED = 7L;
+    private static final int MINUTES = 1;
+    private static final float VIEWPORT_WIDTH = 1920f;
+    private static final float VIEWPORT_HEIGHT = 1080f;
+    private static final float STRAFE_PERIOD = 2f;
+
+    private static GameAssetManager assetManager;
+    private static String heroName, gunName;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void loadAssets() {
+        HeadlessGdx.start();
+        assetManager = GameAssetManager.getGameAssetManager();
+        heroName = assetManager.getAllCharacterNames().first();
+        gunName = assetManager.getAllGunNames().first();
+    }
+
+    @Test
+    public void replayingASavedRunEndsInTheSameState() throws Exception {
+        GameSettings settings = new GameSettings();
+        settings.setAutoReloadEnabled(true);
+        GameWorld recorded = createWorld(settings, SEED);
+        ReplayRecorder recorder = new ReplayRecorder(SEED, heroName, gunName, MINUTES, settings.getSimulationRateHz(),
+            VIEWPORT_WIDTH, VIEWPORT_HEIGHT, settings.isAutoReloadEnabled(), settings.getAiBudgetMicros());
+        TickInput input = new TickInput();
+        float step = settings.getSimulationStepSeconds();
+        for (long steps = 0; !recorded.isOver(); steps++) {
+            if (recorded.hasPendingAbilityOffers()) input.chooseAbility(recorded.getAbilityOffers().first());
+            steerAndShoot(recorded, steps * step, input);
+            recorded.applyInput(input);
+            recorder.record(input);
+            input.clearActions();
+            recorded.step(step);
+        }
+        assertTrue("The autopilot should have fought something", recorded.getKills() > 0);
+
+        FileHandle file = new FileHandle(folder.newFile("run.replay"));
+        assertTrue(recorder.toReplay().save(file));
+        Replay replay = Replay.load(file);
+        assertNotNull(replay);
+        assertEquals(SEED, replay.getSeed());
+        assertEquals(recorder.getTickCount(), replay.getTickCount());
+
+        GameSettings replaySettings = new GameSettings();
+        replaySettings.setAutoReloadEnabled(replay.isAutoReloadEnabled());
+        replaySettings.setSimulationRateHz(replay.getSimulationRateHz());
+        replaySettings.setAiBudgetMicros(replay.getAiBudgetMicros());
+        GameWorld replayed = createWorld(replaySettings, replay.getSeed());
+        ReplayPlayer player = new ReplayPlayer(replay);
+        while (player.hasNext() && !replayed.isOver()) player.step(replayed, replaySettings.getSimulationStepSeconds());
+
+        assertFalse(player.hasNext());
+        assertTrue(replayed.isOver());
+        assertEquals(stateHash(recorded), stateHash(replayed));
+    }
+
+    @Test
+    public void differentSeedsEndInDifferentStates() {
+        GameSettings settings = new GameSettings();
+        GameWorld first = createWorld(settings, SEED);
+        GameWorld second = createWorld(settings, SEED + 1);
+        TickInput idle = new TickInput();
+        for (int i = 0; i < settings.getSimulationRateHz() * 10; i++) {
+            first.applyInput(idle);
+            first.step(settings.getSimulationStepSeconds());
+            second.applyInput(idle);
+            second.step(settings.getSimulationStepSeconds());
+        }
+
+        assertTrue(stateHash(first) != stateHash(second));
+    }
+
+    private static GameWorld createWorld(GameSettings settings, long seed) {
+        CharacterData characterData = assetManager.getCharacterDataByName(heroName);
+        GunData gunData = assetManager.getGunDataByName(gunName);
+        Animation<TextureRegion> idleAnimation = PreGameMenuController.loadAnimation(characterData.getAnimations().get("idle"), 0.1f);
+        ObjectMap<String, Animation<TextureRegion>> gunAnimations = PreGameMenuController.loadAllAnimations(gunData.getAnimations(), 0.1f);
+        return new GameWorld(assetManager, new Player(characterData, idleAnimation), new Gun(gunData, gunAnimations),
+            MINUTES, settings, VIEWPORT_WIDTH, VIEWPORT_HEIGHT, seed);
+    }
+
+    // Circles the spawn point while shooting at the closest living enemy, like the headless autopilot.
+    private static void steerAndShoot(GameWorld world, float time, TickInput input) {
+        int phase = (int) (time / STRAFE_PERIOD) % 4;
+        input.setMovement(phase == 0, phase == 2, phase == 1, phase == 3);
+
+        Enemy target = null;
+        float bestDistance2 = Float.MAX_VALUE;
+        Array<Enemy> enemies = world.getEnemyController().getActiveEnemies();
+        for (int i = 0; i < enemies.size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive() || enemy.isDying()) continue;
+            float dx = enemy.getX() - world.getPlayerPosition().x;
+            float dy = enemy.getY() - world.getPlayerPosition().y;
+            float distance2 = dx * dx + dy * dy;
+            if (distance2 < bestDistance2) { bestDistance2 = distance2; target = enemy; }
+        }
+        if (target != null) input.shoot(target.getX(), target.getY());
+    }
+
+    // Everything a divergence would show up in: clock, score, player, gun, random stream, enemies and bullets.
+    private static long stateHash(GameWorld world) {
+        long hash = 17;
+        hash = mix(hash, Float.floatToIntBits(world.getElapsedSeconds()));
+        hash = mix(hash, world.getKills());
+        hash = mix(hash, world.getSessionScore());
+        Player player = world.getPlayer();
+        hash = mix(hash, Float.floatToIntBits(player.getX()));
+        hash = mix(hash, Float.floatToIntBits(player.getY()));
+        hash = mix(hash, player.getCurrentHp());
+        hash = mix(hash, player.getLevel());
+        hash = mix(hash, player.getXp());
+        hash = mix(hash, world.getGun().getCurrentAmmo());
+        hash = mix(hash, world.getRandom().getState(0));
+        hash = mix(hash, world.getRandom().getState(1));
+        Array<Enemy> enemies = world.getEnemyController().getActiveEnemies();
+        hash = mix(hash, enemies.size);
+        for (int i = 0; i < enemies.size; i++) {
+            Enemy enemy = enemies.get(i);
+            hash = mix(hash, enemy.getArchetype().getTypeId());
+            hash = mix(hash, Float.floatToIntBits(enemy.getX()));
+            hash = mix(hash, Float.floatToIntBits(enemy.getY()));
+            hash = mix(hash, enemy.isAlive() ? 1 : 0);
+        }
+        BulletStore bullets = world.getBullets();
+        hash = mix(hash, bullets.size());
+        for (int i = 0; i < bullets.size(); i++) {
+            hash = mix(hash, Float.floatToIntBits(bullets.getX(i)));
+            hash = mix(hash, Float.floatToIntBits(bullets.getY(i)));
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        return hash * 31 + value;
+    }
+}
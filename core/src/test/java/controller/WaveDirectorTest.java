@@ -0,0 +1,141 @@
+package controller;
+
+import com.badlogic.gdx.math.MathUtils;
+import model.EnemyArchetypeRegistry;
+import model.GameAssetManager;
+import model.HeadlessGdx;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+// Compiles the shipped waves.json, so these follow its rules: tentacles every 3s, eye bats from a quarter in,
+// trees from the start and capped at 3, one boss halfway through.
+public class WaveDirectorTest {
+    private static final float RUN_SECONDS = 600f;
+
+    private static GameAssetManager assetManager;
+    private static EnemyArchetypeRegistry archetypes;
+    private static int tentacle, eyeBat, tree, boss;
+
+    private WaveDirector director;
+
+    @BeforeClass
+    public static void loadSchedule() {
+        HeadlessGdx.start();
+        assetManager = GameAssetManager.getGameAssetManager();
+        archetypes = new EnemyArchetypeRegistry(assetManager);
+        tentacle = archetypes.getTypeId("TentacleMonster");
+        eyeBat = archetypes.getTypeId("EyeBat");
+        tree = archetypes.getTypeId("Tree");
+        boss = archetypes.getTypeId("Boss");
+    }
+
+    @Before
+    public void compile() {
+        director = new WaveDirector(assetManager.getWaveSchedule(), archetypes, RUN_SECONDS);
+    }
+
+    @Test
+    public void timelineIsSortedByTime() {
+        assertTrue(director.getWaveCount() > 0);
+        for (int i = 1; i < director.getWaveCount(); i++) assertTrue(director.getWaveTime(i - 1) <= director.getWaveTime(i));
+    }
+
+    @Test
+    public void initialTreesComeFirst() {
+        assertEquals(0f, director.getWaveTime(0), 0f);
+        assertEquals(tree, director.getWaveTypeId(0));
+        assertEquals(2, director.getWaveSize(0));
+    }
+
+    @Test
+    public void bossArrivesOnceHalfwayThrough() {
+        int bossWaves = 0;
+        for (int i = 0; i < director.getWaveCount(); i++) {
+            if (director.getWaveTypeId(i) != boss) continue;
+            bossWaves++;
+            assertEquals(RUN_SECONDS / 2f, director.getWaveTime(i), 0f);
+            assertEquals(1, director.getWaveSize(i));
+        }
+        assertEquals(1, bossWaves);
+    }
+
+    @Test
+    public void tentacleWavesComeEveryThreeSecondsAndGrowWithElapsedTime() {
+        float expectedTime = 3f;
+        int waves = 0;
+        for (int i = 0; i < director.getWaveCount(); i++) {
+            if (director.getWaveTypeId(i) != tentacle) continue;
+            float time = director.getWaveTime(i);
+            assertEquals(expectedTime, time, 1e-2f);
+            assertEquals(Math.max(1, MathUtils.floor(time / 30f)), director.getWaveSize(i));
+            expectedTime += 3f;
+            waves++;
+        }
+        assertTrue(waves >= RUN_SECONDS / 3f - 1);
+    }
+
+    @Test
+    public void eyeBatsStartAQuarterIn() {
+        for (int i = 0; i < director.getWaveCount(); i++) {
+            if (director.getWaveTypeId(i) != eyeBat) continue;
+            assertEquals(RUN_SECONDS / 4f, director.getWaveTime(i), 0f);
+            return;
+        }
+        throw new AssertionError("No eye bat waves");
+    }
+
+    @Test
+    public void typeCapTrimsWavesToTheRoomLeft() {
+        FakeSpawner spawner = new FakeSpawner();
+        spawner.live[tree] = 2;
+
+        director.update(0f, spawner);
+
+        assertEquals(3, spawner.live[tree]);
+        assertEquals(1, director.getSpawned());
+        assertEquals(1, director.getDroppedByCap());
+    }
+
+    @Test
+    public void liveCapHoldsBackEverythingButTheBoss() {
+        FakeSpawner spawner = new FakeSpawner();
+        director.setMaxLiveEnemies(5);
+        spawner.live[eyeBat] = 5;
+
+        director.update(RUN_SECONDS / 2f, spawner);
+
+        assertEquals(1, spawner.live[boss]);
+        assertEquals(0, spawner.live[tentacle]);
+        assertEquals(0, spawner.live[tree]);
+        assertEquals(1, director.getSpawned());
+    }
+
+    @Test
+    public void expectedPopulationRespectsTheCaps() {
+        director.setMaxLiveEnemies(10);
+
+        assertEquals(2, director.getExpectedPopulation(0f));
+        assertEquals(11, director.getExpectedPopulation(RUN_SECONDS));
+    }
+
+    private static class FakeSpawner implements WaveDirector.Spawner {
+        final int[] live = new int[16];
+
+        @Override public int getLiveCount(int typeId) { return live[typeId]; }
+
+        @Override public int getLiveTotal() {
+            int total = 0;
+            for (int count : live) total += count;
+            return total;
+        }
+
+        @Override public int spawn(int typeId, int count, boolean nearPlayer) {
+            live[typeId] += count;
+            return count;
+        }
+    }
+}
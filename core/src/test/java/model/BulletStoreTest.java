@@ -0,0 +1,71 @@
+package model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BulletStoreTest {
+    private static final float DELTA = 0.1f;
+    private static final float EPSILON = 1e-4f;
+
+    @Test
+    public void expiredBulletIsReplacedByTheLastOneWhichIsStillMovedThatTick() {
+        BulletStore bullets = new BulletStore(8, 1f, 1f);
+        bullets.add(0f, 0f, 10f, 1f, 0f, 1, 0.05f);
+        bullets.add(100f, 0f, 10f, 1f, 0f, 2, 10f);
+        bullets.add(200f, 0f, 10f, 1f, 0f, 3, 10f);
+
+        update(bullets);
+
+        assertEquals(2, bullets.size());
+        assertEquals(201f, bullets.getX(0), EPSILON);
+        assertEquals(3, bullets.getDamage(0));
+        assertEquals(101f, bullets.getX(1), EPSILON);
+        assertEquals(2, bullets.getDamage(1));
+    }
+
+    @Test
+    public void runOfExpiredBulletsIsRemovedInOnePass() {
+        BulletStore bullets = new BulletStore(8, 1f, 1f);
+        bullets.add(0f, 0f, 10f, 1f, 0f, 1, 0.05f);
+        bullets.add(10f, 0f, 10f, 1f, 0f, 2, 0.05f);
+        bullets.add(20f, 0f, 10f, 1f, 0f, 3, 10f);
+        bullets.add(30f, 0f, 10f, 1f, 0f, 4, 0.05f);
+
+        update(bullets);
+
+        assertEquals(1, bullets.size());
+        assertEquals(21f, bullets.getX(0), EPSILON);
+        assertEquals(3, bullets.getDamage(0));
+    }
+
+    @Test
+    public void bulletsLeavingTheBoundsAreDropped() {
+        BulletStore bullets = new BulletStore(8, 1f, 1f);
+        bullets.add(0f, 0f, 10f, 1f, 0f, 1, 10f);
+        bullets.add(499.5f, 0f, 10f, 1f, 0f, 2, 10f);
+
+        update(bullets);
+
+        assertEquals(1, bullets.size());
+        assertEquals(1, bullets.getDamage(0));
+    }
+
+    @Test
+    public void growingKeepsEveryBullet() {
+        BulletStore bullets = new BulletStore(8, 1f, 1f);
+        for (int i = 0; i < 9; i++) bullets.add(i, -i, 10f, 0f, 1f, i, 10f);
+
+        assertEquals(1, bullets.getGrowCount());
+        assertEquals(16, bullets.getCapacity());
+        for (int i = 0; i < 9; i++) {
+            assertEquals(i, bullets.getX(i), EPSILON);
+            assertEquals(-i, bullets.getY(i), EPSILON);
+            assertEquals(i, bullets.getDamage(i));
+        }
+    }
+
+    private static void update(BulletStore bullets) {
+        bullets.update(DELTA, -500f, -500f, 500f, 500f);
+    }
+}
@@ -0,0 +1,29 @@
+package model;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import graphic.source.headless.NoopGL;
+
+/**
+ * One headless libGDX application shared by every test that needs {@code Gdx.app}, {@code Gdx.files} or the
+ * game's assets. As in the headless launcher, GL calls go to {@link NoopGL}, so textures can be created.
+ */
+public final class HeadlessGdx {
+    private static boolean started;
+
+    private HeadlessGdx() {
+    }
+
+    public static synchronized void start() {
+        if (started) return;
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+        Gdx.app.setLogLevel(Application.LOG_ERROR);
+        Gdx.gl = Gdx.gl20 = NoopGL.create();
+        started = true;
+    }
+}
@@ -0,0 +1,125 @@
+package model;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.FloatArray;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RenderQueueTest {
+    private static final int LAYER_FLAT = RenderQueue.LAYER_PLAYER_BULLETS;
+
+    private static TextureRegion first, second;
+
+    // Each sprite is told apart by its x, which the recording batch collects in draw order.
+    private final FloatArray drawnX = new FloatArray();
+    private final Batch batch = (Batch) Proxy.newProxyInstance(Batch.class.getClassLoader(), new Class<?>[] { Batch.class },
+        (proxy, method, args) -> {
+            if (method.getName().equals("draw") && args != null && args[0] instanceof TextureRegion) drawnX.add((Float) args[1]);
+            return null;
+        });
+
+    @BeforeClass
+    public static void createTextures() {
+        HeadlessGdx.start();
+        first = new TextureRegion(new Texture(new EmptyTextureData()));
+        second = new TextureRegion(new Texture(new EmptyTextureData()));
+    }
+
+    @Test
+    public void flatLayerOrdersByLayerThenTextureThenDepthThenSubmission() {
+        RenderQueue queue = new RenderQueue(8);
+        queue.add(LAYER_FLAT, 5, first, 1f, 0f, 1f, 1f);
+        queue.add(LAYER_FLAT, 9, second, 2f, 0f, 1f, 1f);
+        queue.add(LAYER_FLAT, 1, first, 3f, 0f, 1f, 1f);
+        queue.add(LAYER_FLAT, 9, second, 4f, 0f, 1f, 1f);
+        queue.add(RenderQueue.LAYER_ACTORS, 0, second, 5f, 0f, 1f, 1f);
+
+        queue.draw(batch);
+
+        // Texture ids follow first use in the queue, so the first texture sorts ahead of the second.
+        assertArrayEquals(new float[] { 5f, 3f, 1f, 2f, 4f }, drawnX.toArray(), 0f);
+        assertEquals(3, queue.getLastTextureSwitches());
+    }
+
+    @Test
+    public void depthSortedLayerPutsDepthBeforeTexture() {
+        RenderQueue queue = new RenderQueue(8);
+        queue.add(RenderQueue.LAYER_ACTORS, 3, first, 1f, 0f, 1f, 1f);
+        queue.add(RenderQueue.LAYER_ACTORS, 2, second, 2f, 0f, 1f, 1f);
+        queue.add(RenderQueue.LAYER_ACTORS, 2, first, 3f, 0f, 1f, 1f);
+
+        queue.draw(batch);
+
+        assertArrayEquals(new float[] { 3f, 2f, 1f }, drawnX.toArray(), 0f);
+    }
+
+    @Test
+    public void depthsSpanningTwoKeyBytesSortAndTiesKeepSubmissionOrderAcrossGrowth() {
+        RenderQueue queue = new RenderQueue(8);
+        int count = 600;
+        for (int i = 0; i < count; i++) queue.add(RenderQueue.LAYER_ACTORS, i % 2 == 0 ? 256 : 255, first, i, 0f, 1f, 1f);
+
+        queue.draw(batch);
+
+        assertEquals(count, drawnX.size);
+        assertTrue(queue.getGrowCount() > 0);
+        for (int k = 0; k < count / 2; k++) {
+            assertEquals(2 * k + 1, drawnX.get(k), 0f);
+            assertEquals(2 * k, drawnX.get(count / 2 + k), 0f);
+        }
+    }
+
+    @Test
+    public void depthIsClampedIntoItsBits() {
+        RenderQueue queue = new RenderQueue(8);
+        queue.add(LAYER_FLAT, RenderQueue.MAX_DEPTH + 100, first, 1f, 0f, 1f, 1f);
+        queue.add(LAYER_FLAT, -5, first, 2f, 0f, 1f, 1f);
+        queue.add(LAYER_FLAT, RenderQueue.MAX_DEPTH, first, 3f, 0f, 1f, 1f);
+        queue.add(LAYER_FLAT, 0, first, 4f, 0f, 1f, 1f);
+
+        queue.draw(batch);
+
+        // Overflowing depths must not spill into the texture or layer bits, so clamped ties stay in submission order.
+        assertArrayEquals(new float[] { 2f, 4f, 1f, 3f }, drawnX.toArray(), 0f);
+    }
+
+    @Test
+    public void queueIsEmptyAndReusableAfterDrawing() {
+        RenderQueue queue = new RenderQueue(8);
+        queue.add(LAYER_FLAT, 0, first, 1f, 0f, 1f, 1f);
+        queue.draw(batch);
+        drawnX.clear();
+
+        queue.add(LAYER_FLAT, 0, second, 2f, 0f, 1f, 1f);
+        queue.draw(batch);
+
+        assertEquals(0, queue.size());
+        assertEquals(1, queue.getLastSize());
+        assertArrayEquals(new float[] { 2f }, drawnX.toArray(), 0f);
+    }
+
+    // A 1x1 texture whose upload is a no-op; only its identity matters to the queue.
+    private static class EmptyTextureData implements TextureData {
+        @Override public TextureDataType getType() { return TextureDataType.Custom; }
+        @Override public boolean isPrepared() { return true; }
+        @Override public void prepare() { }
+        @Override public Pixmap consumePixmap() { throw new UnsupportedOperationException(); }
+        @Override public boolean disposePixmap() { return false; }
+        @Override public void consumeCustomData(int target) { }
+        @Override public int getWidth() { return 1; }
+        @Override public int getHeight() { return 1; }
+        @Override public Pixmap.Format getFormat() { return Pixmap.Format.RGBA8888; }
+        @Override public boolean useMipMaps() { return false; }
+        @Override public boolean isManaged() { return false; }
+    }
+}
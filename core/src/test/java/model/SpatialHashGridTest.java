@@ -0,0 +1,73 @@
+package model;
+
+import com.badlogic.gdx.utils.IntArray;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SpatialHashGridTest {
+    @Test
+    public void queryReachesEntriesCenteredInNeighbouringCellsByTheLargestHalfExtent() {
+        SpatialHashGrid grid = new SpatialHashGrid(100f);
+        // 300 wide: its center, and so its bucket, is in cell 1 although it covers cell 0 too.
+        grid.insert(1, 0f, 0f, 300f, 20f);
+        IntArray out = new IntArray();
+
+        grid.query(10f, 5f, 1f, 1f, out);
+
+        assertTrue(out.contains(1));
+    }
+
+    @Test
+    public void queryLeavesOutEntriesBeyondTheExpandedRange() {
+        SpatialHashGrid grid = new SpatialHashGrid(100f);
+        grid.insert(1, 0f, 0f, 300f, 20f);
+        grid.insert(2, 1000f, 1000f, 10f, 10f);
+        IntArray out = new IntArray();
+
+        grid.query(10f, 5f, 1f, 1f, out);
+
+        assertFalse(out.contains(2));
+    }
+
+    @Test
+    public void clearForgetsTheLargestHalfExtent() {
+        SpatialHashGrid grid = new SpatialHashGrid(100f);
+        grid.insert(1, 0f, 0f, 300f, 20f);
+        grid.clear();
+        grid.insert(3, 150f, 0f, 10f, 10f);
+        IntArray out = new IntArray();
+
+        grid.query(10f, 5f, 1f, 1f, out);
+
+        assertEquals(0, out.size);
+    }
+
+    @Test
+    public void everyEntryIsReturnedOnceHoweverManyCellsItCovers() {
+        SpatialHashGrid grid = new SpatialHashGrid(50f);
+        for (int id = 0; id < 20; id++) grid.insert(id, id * 37f - 300f, id * -23f + 100f, 10f + id * 15f, 40f);
+        IntArray out = new IntArray();
+
+        grid.query(-1000f, -1000f, 2000f, 2000f, out);
+
+        assertEquals(20, out.size);
+        for (int id = 0; id < 20; id++) assertTrue(out.contains(id));
+    }
+
+    @Test
+    public void queryAppendsWithoutClearingTheOutput() {
+        SpatialHashGrid grid = new SpatialHashGrid(100f);
+        grid.insert(4, 0f, 0f, 10f, 10f);
+        IntArray out = new IntArray();
+        out.add(99);
+
+        grid.query(0f, 0f, 10f, 10f, out);
+
+        assertEquals(2, out.size);
+        assertEquals(99, out.get(0));
+        assertEquals(4, out.get(1));
+    }
+}
@@ -0,0 +1,74 @@
+package model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SpawnQueueTest {
+    @Test
+    public void growingAWrappedRingKeepsFirstInFirstOut() {
+        SpawnQueue queue = new SpawnQueue(8);
+        for (int i = 0; i < 5; i++) queue.add(0, false, i);
+        for (int i = 0; i < 5; i++) queue.removeFirst();
+        // Head is at slot 5 now, so these wrap past the end before the ninth forces a resize.
+        for (int i = 0; i < 9; i++) queue.add(i % 3, i % 2 == 0, 10f + i);
+
+        assertEquals(1, queue.getGrowCount());
+        assertEquals(16, queue.getCapacity());
+        for (int i = 0; i < 9; i++) {
+            assertEquals(i % 3, queue.peekTypeId());
+            assertEquals(i % 2 == 0, queue.peekNearPlayer());
+            assertEquals(10f + i, queue.peekDueTime(), 0f);
+            queue.removeFirst();
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void pendingCountsFollowAddsRemovesAndGrowth() {
+        SpawnQueue queue = new SpawnQueue(8);
+        for (int i = 0; i < 20; i++) queue.add(i % 2 == 0 ? 1 : 4, false, i);
+
+        assertEquals(10, queue.getPendingCount(1));
+        assertEquals(10, queue.getPendingCount(4));
+        assertEquals(0, queue.getPendingCount(2));
+        assertEquals(0, queue.getPendingCount(-1));
+        assertEquals(0, queue.getPendingCount(50));
+
+        queue.removeFirst();
+        queue.removeFirst();
+        queue.removeFirst();
+
+        assertEquals(8, queue.getPendingCount(1));
+        assertEquals(9, queue.getPendingCount(4));
+        assertEquals(20, queue.getPeakSize());
+        assertEquals(17, queue.size());
+    }
+
+    @Test
+    public void ensureCapacityResizesWithoutCountingAGrow() {
+        SpawnQueue queue = new SpawnQueue(8);
+        queue.add(2, true, 1f);
+        queue.ensureCapacity(64, 5);
+
+        assertEquals(64, queue.getCapacity());
+        assertEquals(0, queue.getGrowCount());
+        assertEquals(2, queue.peekTypeId());
+        assertEquals(1, queue.getPendingCount(2));
+        for (int i = 0; i < 63; i++) queue.add(i % 5, false, i);
+        assertEquals(0, queue.getGrowCount());
+    }
+
+    @Test
+    public void removingFromAnEmptyQueueDoesNothing() {
+        SpawnQueue queue = new SpawnQueue(8);
+        queue.removeFirst();
+
+        assertTrue(queue.isEmpty());
+        queue.add(3, false, 0f);
+        assertFalse(queue.isEmpty());
+        assertEquals(3, queue.peekTypeId());
+    }
+}
@@ -0,0 +1,29 @@
+package graphic.source.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * A {@link GL20} whose calls do nothing and return zero, so textures, atlases and skins can be loaded in a run
+ * with no GPU. The headless backend leaves {@code Gdx.gl} unset; nothing is ever drawn through this one.
+ * Shared with the headless runner as one of core's test fixtures.
+ */
+public final class NoopGL {
+    private NoopGL() {
+    }
+
+    public static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] { GL20.class },
+            (proxy, method, args) -> zeroOf(method.getReturnType()));
+    }
+
+    private static Object zeroOf(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == float.class) return 0f;
+        if (type == long.class) return 0L;
+        if (type == String.class) return "";
+        return null;
+    }
+}
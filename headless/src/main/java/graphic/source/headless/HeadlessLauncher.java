@@ -0,0 +1,19 @@
+package graphic.source.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Launches a simulated run without a window or GPU.
+ * Arguments (all optional): game duration in minutes, hero name, gun name, run seed, file to save the replay to.
+ * {@code replay <file>} instead re-simulates a recorded run and logs its outcome.
+ * {@code alloccheck [minutes] [seed]} plays a seeded run and exits with status 1 if a step allocates after warm-up.
+ */
+public class HeadlessLauncher {
+    public static void main(String[] args) {
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // The whole run is simulated inside create(), so render() never needs to be scheduled.
+        configuration.updatesPerSecond = -1;
+        new HeadlessApplication(new HeadlessSimulation(args), configuration);
+    }
+}
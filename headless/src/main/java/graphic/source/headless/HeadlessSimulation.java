@@ -0,0 +1,228 @@
+package graphic.source.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import controller.GameWorld;
+import controller.PreGameMenuController;
+import controller.ReplayPlayer;
+import controller.ReplayRecorder;
+import model.CharacterData;
+import model.Enemy;
+import model.GameAssetManager;
+import model.GameSettings;
+import model.Gun;
+import model.GunData;
+import model.Player;
+import model.Replay;
+import model.TickInput;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Plays one full run against a {@link GameWorld} as fast as the CPU allows, with a simple autopilot
+ * standing in for the player, then logs the outcome and how long the simulation took.
+ * In replay mode the recorded inputs of a saved run are fed back instead of the autopilot. The allocation
+ * check plays the autopilot with a fixed seed and fails if any step allocates once the run has warmed up.
+ */
+public class HeadlessSimulation extends ApplicationAdapter {
+    private static final float VIEWPORT_WIDTH = 1920f;
+    private static final float VIEWPORT_HEIGHT = 1080f;
+    private static final float STRAFE_PERIOD = 2f;
+    private static final long ALLOCATION_CHECK_SEED = 20L;
+    // Pools and arrays have grown to size by then; every step after this must be allocation free.
+    private static final float ALLOCATION_WARMUP_SECONDS = 30f;
+
+    private final String[] args;
+    private final TickInput input = new TickInput();
+
+    public HeadlessSimulation(String[] args) {
+        this.args = args;
+    }
+
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = NoopGL.create();
+        if (args.length > 0 && args[0].equals("alloccheck")) {
+            if (!checkAllocations()) System.exit(1);
+        } else if (args.length > 1 && args[0].equals("replay")) replay(args[1]);
+        else autopilot();
+        Gdx.app.exit();
+    }
+
+    private void autopilot() {
+        GameAssetManager assetManager = GameAssetManager.getGameAssetManager();
+        int minutes = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        String heroName = args.length > 1 ? args[1] : assetManager.getAllCharacterNames().first();
+        String gunName = args.length > 2 ? args[2] : assetManager.getAllGunNames().first();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : TimeUtils.millis();
+
+        GameSettings settings = new GameSettings();
+        settings.setAutoReloadEnabled(true);
+        GameWorld world = createWorld(assetManager, heroName, gunName, minutes, settings, VIEWPORT_WIDTH, VIEWPORT_HEIGHT, seed);
+        if (world == null) return;
+        ReplayRecorder recorder = new ReplayRecorder(seed, heroName, gunName, minutes, settings.getSimulationRateHz(),
+            VIEWPORT_WIDTH, VIEWPORT_HEIGHT, settings.isAutoReloadEnabled(), settings.getAiBudgetMicros());
+
+        float step = settings.getSimulationStepSeconds();
+        long steps = 0;
+        long startNanos = TimeUtils.nanoTime();
+        while (!world.isOver()) {
+            if (world.hasPendingAbilityOffers()) input.chooseAbility(world.getAbilityOffers().first());
+            steerAndShoot(world, steps * step);
+            world.applyInput(input);
+            recorder.record(input);
+            input.clearActions();
+            world.step(step);
+            steps++;
+        }
+        long wallMillis = TimeUtils.nanosToMillis(TimeUtils.nanoTime() - startNanos);
+        logResult(world, heroName, gunName, wallMillis, steps);
+        if (args.length > 4) recorder.toReplay().save(Gdx.files.local(args[4]));
+    }
+
+    private void replay(String path) {
+        Replay replay = Replay.load(Gdx.files.local(path));
+        if (replay == null) return;
+        GameSettings settings = new GameSettings();
+        settings.setAutoReloadEnabled(replay.isAutoReloadEnabled());
+        settings.setSimulationRateHz(replay.getSimulationRateHz());
+        settings.setAiBudgetMicros(replay.getAiBudgetMicros());
+        GameWorld world = createWorld(GameAssetManager.getGameAssetManager(), replay.getHeroName(), replay.getGunName(),
+            replay.getGameDurationMinutes(), settings, replay.getViewportWidth(), replay.getViewportHeight(), replay.getSeed());
+        if (world == null) return;
+
+        ReplayPlayer player = new ReplayPlayer(replay);
+        float step = settings.getSimulationStepSeconds();
+        long startNanos = TimeUtils.nanoTime();
+        while (player.hasNext() && !world.isOver()) player.step(world, step);
+        long wallMillis = TimeUtils.nanosToMillis(TimeUtils.nanoTime() - startNanos);
+        if (player.hasNext()) Gdx.app.error("HeadlessSimulation", "Replay diverged: run ended at tick " + player.getTick() + " of " + replay.getTickCount());
+        logResult(world, replay.getHeroName(), replay.getGunName(), wallMillis, player.getTick());
+    }
+
+    // Measures the simulation thread only: the headless backend has no renderer, so draw calls are not covered.
+    // The seeded run is played twice and only the second one is measured. The first takes every code path once,
+    // so class initialisation and lazily resolved constants don't count against the second. Run it on C1 only
+    // (the allocationCheck task does): C2 resolves string literals whenever it first compiles a method.
+    private boolean checkAllocations() {
+        GameAssetManager assetManager = GameAssetManager.getGameAssetManager();
+        int minutes = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : ALLOCATION_CHECK_SEED;
+        String heroName = assetManager.getAllCharacterNames().first();
+        String gunName = assetManager.getAllGunNames().first();
+
+        GameSettings settings = new GameSettings();
+        settings.setAutoReloadEnabled(true);
+        GameWorld rehearsal = createWorld(assetManager, heroName, gunName, minutes, settings, VIEWPORT_WIDTH, VIEWPORT_HEIGHT, seed);
+        if (rehearsal == null) return false;
+        float step = settings.getSimulationStepSeconds();
+        for (long steps = 0; !rehearsal.isOver(); steps++) playAutopilotStep(rehearsal, steps * step, step);
+        GameWorld world = createWorld(assetManager, heroName, gunName, minutes, settings, VIEWPORT_WIDTH, VIEWPORT_HEIGHT, seed);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        // Reading the counter may itself cost a few bytes; take the cheapest empty reading as the baseline.
+        long baseline = Long.MAX_VALUE;
+        for (int i = 0; i < 100; i++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            baseline = Math.min(baseline, threads.getThreadAllocatedBytes(threadId) - before);
+        }
+
+        long steps = 0, measuredSteps = 0, allocatingSteps = 0, totalBytes = 0, maxBytes = 0, firstTick = -1;
+        int killsBeforeMeasuring = 0;
+        while (!world.isOver()) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            playAutopilotStep(world, steps * step, step);
+            long bytes = threads.getThreadAllocatedBytes(threadId) - before - baseline;
+            if (steps * step >= ALLOCATION_WARMUP_SECONDS) {
+                if (measuredSteps == 0) killsBeforeMeasuring = world.getKills();
+                measuredSteps++;
+                if (bytes > 0) {
+                    if (firstTick < 0) firstTick = steps;
+                    allocatingSteps++;
+                    totalBytes += bytes;
+                    maxBytes = Math.max(maxBytes, bytes);
+                }
+            }
+            steps++;
+        }
+
+        world.logStats();
+        if (measuredSteps == 0) {
+            Gdx.app.error("HeadlessSimulation", "Run ended after " + (int) world.getElapsedSeconds() + "s, before the "
+                + (int) ALLOCATION_WARMUP_SECONDS + "s warm-up; nothing was measured.");
+            return false;
+        }
+        if (allocatingSteps > 0) {
+            Gdx.app.error("HeadlessSimulation", "Allocation check FAILED: " + allocatingSteps + " of " + measuredSteps + " steps allocated, "
+                + totalBytes + " bytes in total, at most " + maxBytes + " in one step, first at tick " + firstTick + " (seed " + seed + ").");
+            return false;
+        }
+        // Kills need hits, deaths and seed drops, so a run without any has not exercised the combat path.
+        int measuredKills = world.getKills() - killsBeforeMeasuring;
+        if (measuredKills == 0) {
+            Gdx.app.error("HeadlessSimulation", "Allocation check inconclusive: nothing was killed after warm-up (seed " + seed + ").");
+            return false;
+        }
+        Gdx.app.log("HeadlessSimulation", "Allocation check passed: " + measuredSteps + " steps and " + measuredKills
+            + " kills after warm-up allocated nothing (seed " + seed + ").");
+        return true;
+    }
+
+    private void playAutopilotStep(GameWorld world, float time, float step) {
+        if (world.hasPendingAbilityOffers()) input.chooseAbility(world.getAbilityOffers().first());
+        steerAndShoot(world, time);
+        world.applyInput(input);
+        input.clearActions();
+        world.step(step);
+    }
+
+    private GameWorld createWorld(GameAssetManager assetManager, String heroName, String gunName, int minutes,
+                                  GameSettings settings, float viewportWidth, float viewportHeight, long seed) {
+        CharacterData characterData = assetManager.getCharacterDataByName(heroName);
+        GunData gunData = assetManager.getGunDataByName(gunName);
+        if (characterData == null || gunData == null) {
+            Gdx.app.error("HeadlessSimulation", "Unknown hero '" + heroName + "' or gun '" + gunName + "'.");
+            return null;
+        }
+        Animation<TextureRegion> idleAnimation = PreGameMenuController.loadAnimation(characterData.getAnimations().get("idle"), 0.1f);
+        ObjectMap<String, Animation<TextureRegion>> gunAnimations = PreGameMenuController.loadAllAnimations(gunData.getAnimations(), 0.1f);
+        Player player = new Player(characterData, idleAnimation);
+        Gun gun = new Gun(gunData, gunAnimations);
+        return new GameWorld(assetManager, player, gun, minutes, settings, viewportWidth, viewportHeight, seed);
+    }
+
+    private void logResult(GameWorld world, String heroName, String gunName, long wallMillis, long steps) {
+        world.logStats();
+        Player player = world.getPlayer();
+        Gdx.app.log("HeadlessSimulation", (player.isAlive() ? "WIN" : "DIED") + " as " + heroName + " with " + gunName + ", seed " + world.getSeed()
+            + " after " + (int) world.getElapsedSeconds() + "s simulated in " + wallMillis + "ms (" + steps + " steps)."
+            + " Kills: " + world.getKills() + ", level: " + player.getLevel() + ", score: " + world.getSessionScore());
+    }
+
+    // Circles the spawn point while shooting at the closest living enemy.
+    private void steerAndShoot(GameWorld world, float time) {
+        int phase = (int) (time / STRAFE_PERIOD) % 4;
+        input.setMovement(phase == 0, phase == 2, phase == 1, phase == 3);
+
+        Enemy target = null;
+        float bestDistance2 = Float.MAX_VALUE;
+        float playerX = world.getPlayerPosition().x;
+        float playerY = world.getPlayerPosition().y;
+        Array<Enemy> enemies = world.getEnemyController().getActiveEnemies();
+        for (int i = 0; i < enemies.size; i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive() || enemy.isDying()) continue;
+            float dx = enemy.getX() - playerX;
+            float dy = enemy.getY() - playerY;
+            float distance2 = dx * dx + dy * dy;
+            if (distance2 < bestDistance2) { bestDistance2 = distance2; target = enemy; }
+        }
+        if (target != null) input.shoot(target.getX(), target.getY());
+    }
+}
@@ -201,8 +201,4 @@ public class StartupHelper {
     public static boolean startNewJvmIfRequired() {
         return startNewJvmIfRequired(true);
     }
-<<<<<<< HEAD
 }
-=======
-}
->>>>>>> 1713f21e921b05a8bbc5730f5aa20cd1530a7a86